@@ -0,0 +1,16 @@
+USE yumyumcoach;
+
+-- 챌린지 진행률 야간 일괄 재평가(ChallengeProgressBatchJob) 파티션 진행 상태
+-- - 실행일마다 (챌린지, 이메일 해시 파티션) 한 행. DONE 이 아닌 파티션만 다시 처리하므로 중단되어도 이어서 진행된다.
+-- - RUNNING 인 채로 오래된 파티션은 작업하던 서버가 죽은 것으로 보고 다시 가져간다.
+CREATE TABLE challenge_batch_partitions (
+  run_date DATE NOT NULL,
+  challenge_id BIGINT UNSIGNED NOT NULL,
+  partition_no INT NOT NULL,
+  status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+  evaluated_count INT NOT NULL DEFAULT 0,
+  claimed_at DATETIME DEFAULT NULL,
+  finished_at DATETIME DEFAULT NULL,
+  PRIMARY KEY (run_date, challenge_id, partition_no),
+  KEY idx_challenge_batch_partitions_status (status, run_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,17 @@
+USE yumyumcoach;
+
+-- 챌린지 참여자별 성공한 날짜 (challenge_participants.success_days 의 근거)
+-- - 운동/식단 기록이 바뀐 날짜만 다시 평가해서 행을 넣거나 지우고, success_days 는 이 테이블의 행 수로 맞춘다.
+CREATE TABLE challenge_success_days (
+  challenge_id BIGINT UNSIGNED NOT NULL,
+  email VARCHAR(255) NOT NULL,
+  success_date DATE NOT NULL,
+  PRIMARY KEY (challenge_id, email, success_date),
+  CONSTRAINT fk_challenge_success_days_challenge
+    FOREIGN KEY (challenge_id) REFERENCES challenges(id),
+  CONSTRAINT fk_challenge_success_days_account
+    FOREIGN KEY (email) REFERENCES accounts(email)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 사용자 기준으로 진행 중인 참여를 찾기 위한 인덱스 (PK 는 challenge_id 가 앞)
+CREATE INDEX idx_challenge_participants_email_status ON challenge_participants (email, status);
@@ -0,0 +1,13 @@
+USE yumyumcoach;
+
+-- 챌린지 진행률 일괄 재평가(ChallengeProgressBatchJob) 파티션 번호
+-- - CRC32(email) % 32 를 저장해 두고 (challenge_id, email_partition) 인덱스로 파티션 행만 잠그고 지운다.
+-- - 32 는 ChallengeProgressBatchJob.PARTITIONS_PER_CHALLENGE 와 같아야 한다.
+-- - challenge_success_days 를 만드는 20261017_add_challenge_success_days.sql 다음에 실행되어야 한다. (파일 이름 순)
+ALTER TABLE challenge_participants
+  ADD COLUMN email_partition TINYINT UNSIGNED AS (CRC32(email) % 32) STORED,
+  ADD KEY idx_challenge_participants_partition (challenge_id, email_partition);
+
+ALTER TABLE challenge_success_days
+  ADD COLUMN email_partition TINYINT UNSIGNED AS (CRC32(email) % 32) STORED,
+  ADD KEY idx_challenge_success_days_partition (challenge_id, email_partition);
@@ -0,0 +1,63 @@
+USE yumyumcoach;
+
+-- 사용자별 하루 활동 집계 (운동/식단 기록의 날짜별 합계)
+-- - 기록이 바뀐 (사용자, 날짜) 행만 기록 트랜잭션 안에서 원본을 다시 집계해 갱신한다. (DailyActivityService)
+-- - 기존 기록은 아래 INSERT ... SELECT 로 이 마이그레이션에서 채운다.
+--   (배포 전 버전이 마이그레이션 이후에 쓴 기록은 DailyActivityBackfillJob 으로 다시 맞춘다)
+-- - 챌린지 진행률 평가와 통계는 원본 대신 이 테이블을 하루 한 행씩 읽는다.
+CREATE TABLE daily_activity (
+  email VARCHAR(255) NOT NULL,
+  activity_date DATE NOT NULL,
+  exercise_minutes DOUBLE NOT NULL DEFAULT 0,
+  calories_burned DOUBLE NOT NULL DEFAULT 0,
+  protein DOUBLE NOT NULL DEFAULT 0,
+  calories_eaten DOUBLE NOT NULL DEFAULT 0,
+  has_record TINYINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (email, activity_date),
+  CONSTRAINT fk_daily_activity_account
+    FOREIGN KEY (email) REFERENCES accounts(email)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 식단 기록을 사용자 + 날짜로 찾기 위한 인덱스 (집계 갱신 / 백필)
+CREATE INDEX idx_diet_records_email_date ON diet_records (email, record_date);
+
+-- 기존 기록 집계 (DailyActivityMapper.refreshByEmails 와 같은 집계를 전체 사용자에 대해 한 번)
+-- - 챌린지 진행률 평가 / 일괄 재평가는 이 테이블만 읽으므로, 비어 있는 채로 배포하면 진행률이 0 으로 덮인다.
+INSERT INTO daily_activity (
+  email, activity_date, exercise_minutes, calories_burned, protein, calories_eaten, has_record
+)
+SELECT t.email,
+       t.activity_date,
+       SUM(t.minutes),
+       SUM(t.calories_burned),
+       SUM(t.protein),
+       SUM(t.calories_eaten),
+       1
+FROM (
+       SELECT email,
+              record_date           AS activity_date,
+              SUM(duration_minutes) AS minutes,
+              SUM(calories)         AS calories_burned,
+              0                     AS protein,
+              0                     AS calories_eaten
+       FROM exercise_records
+       GROUP BY email, record_date
+       UNION ALL
+       SELECT dr.email,
+              dr.record_date,
+              0,
+              0,
+              COALESCE(SUM(COALESCE(f.protein, 0) * df.serve_count), 0),
+              COALESCE(SUM(COALESCE(f.calories, 0) * df.serve_count), 0)
+       FROM diet_records dr
+              LEFT JOIN diet_foods df ON df.diet_id = dr.id
+              LEFT JOIN foods f ON f.id = df.food_id
+       GROUP BY dr.email, dr.record_date
+     ) t
+GROUP BY t.email, t.activity_date
+ON DUPLICATE KEY UPDATE
+  exercise_minutes = VALUES(exercise_minutes),
+  calories_burned = VALUES(calories_burned),
+  protein = VALUES(protein),
+  calories_eaten = VALUES(calories_eaten),
+  has_record = VALUES(has_record);
@@ -0,0 +1,5 @@
+USE yumyumcoach;
+
+-- 댓글 목록 키셋(커서) 페이징용 인덱스
+-- WHERE post_id = ? AND (created_at, id) > (?, ?) ORDER BY created_at ASC, id ASC LIMIT ?
+CREATE INDEX idx_post_comments_post_created_at_id ON post_comments (post_id, created_at, id);
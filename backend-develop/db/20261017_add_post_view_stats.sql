@@ -0,0 +1,12 @@
+USE yumyumcoach;
+
+-- 게시글 조회수 (PostViewTracker 가 모아서 주기적으로 반영)
+-- - viewer_sketch : 조회한 사용자 이메일의 HyperLogLog 레지스터 1024개 (1KB 고정)
+-- - posts 는 soft delete 후 DeletedPostPurger 가 지우므로 FK 를 두지 않는다.
+CREATE TABLE post_view_stats (
+  post_id BIGINT UNSIGNED NOT NULL,
+  view_count BIGINT NOT NULL DEFAULT 0,
+  unique_viewer_count BIGINT NOT NULL DEFAULT 0,
+  viewer_sketch VARBINARY(1024) NOT NULL,
+  PRIMARY KEY (post_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
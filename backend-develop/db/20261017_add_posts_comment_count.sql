@@ -0,0 +1,15 @@
+USE yumyumcoach;
+
+-- 게시글 댓글 수 비정규화 (likes 와 같은 방식)
+-- 댓글 작성/삭제 시 같은 트랜잭션에서 +1/-1 하고, 어긋난 값은 PostCountReconciler 가 주기적으로 보정한다.
+ALTER TABLE posts
+  ADD COLUMN comment_count INT NOT NULL DEFAULT 0 AFTER likes;
+
+-- 기존 게시글 댓글 수 채우기
+UPDATE posts p
+LEFT JOIN (
+  SELECT post_id, COUNT(*) AS cnt
+  FROM post_comments
+  GROUP BY post_id
+) c ON c.post_id = p.id
+SET p.comment_count = COALESCE(c.cnt, 0);
@@ -0,0 +1,5 @@
+USE yumyumcoach;
+
+-- 게시글 목록 키셋(커서) 페이징용 인덱스
+-- WHERE (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT ?
+CREATE INDEX idx_posts_created_at_id ON posts (created_at, id);
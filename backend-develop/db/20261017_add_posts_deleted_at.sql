@@ -0,0 +1,7 @@
+USE yumyumcoach;
+
+-- 게시글 soft delete
+-- 삭제 요청은 deleted_at 만 채우고, 좋아요/댓글/이미지와 게시글 행은 DeletedPostPurger 가 나눠서 지운다.
+ALTER TABLE posts
+  ADD COLUMN deleted_at DATETIME DEFAULT NULL AFTER comment_count,
+  ADD KEY idx_posts_deleted_at (deleted_at);
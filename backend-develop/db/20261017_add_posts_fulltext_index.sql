@@ -0,0 +1,7 @@
+USE yumyumcoach;
+
+-- 게시글 키워드 검색용 FULLTEXT 인덱스
+-- - 한글은 공백 단위 토큰화가 맞지 않으므로 ngram 파서 사용 (ngram_token_size 기본값 2)
+-- - MATCH(title, content) AGAINST(? IN BOOLEAN MODE) 로 검색/개수 조회 모두 이 인덱스를 사용
+ALTER TABLE posts
+  ADD FULLTEXT INDEX ft_posts_title_content (title, content) WITH PARSER ngram;
@@ -0,0 +1,6 @@
+USE yumyumcoach;
+
+-- 게시글 버전 (상세/댓글 목록 ETag 용)
+-- 게시글 수정, 댓글 작성/수정/삭제, 좋아요 수 반영(LikeCounter flush) 시 +1
+ALTER TABLE posts
+  ADD COLUMN version BIGINT NOT NULL DEFAULT 0 AFTER deleted_at;
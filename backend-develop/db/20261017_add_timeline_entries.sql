@@ -0,0 +1,12 @@
+USE yumyumcoach;
+
+-- 팔로잉 피드(홈 타임라인) : 팔로워별 게시글 ID (fan-out-on-write)
+-- - posts 는 soft delete 후 DeletedPostPurger 가 지우므로 FK 를 두지 않는다. (삭제된 글은 조회 시 걸러짐)
+-- - TimelineRetentionJob 이 보관 기간이 지난 항목을 지운다.
+CREATE TABLE timeline_entries (
+  owner_email VARCHAR(255) NOT NULL,
+  post_id BIGINT UNSIGNED NOT NULL,
+  created_at DATETIME NOT NULL,
+  PRIMARY KEY (owner_email, post_id),
+  KEY idx_timeline_entries_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
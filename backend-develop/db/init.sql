@@ -47,7 +47,13 @@ CREATE TABLE posts (
   content TEXT DEFAULT NULL,
   created_at DATETIME NOT NULL,
   likes INT NOT NULL DEFAULT 0,
+  comment_count INT NOT NULL DEFAULT 0,
+  deleted_at DATETIME DEFAULT NULL,
+  version BIGINT NOT NULL DEFAULT 0,
   PRIMARY KEY (id),
+  KEY idx_posts_created_at_id (created_at, id),
+  KEY idx_posts_deleted_at (deleted_at),
+  FULLTEXT KEY ft_posts_title_content (title, content) WITH PARSER ngram,
   CONSTRAINT fk_posts_author
     FOREIGN KEY (author_email) REFERENCES accounts(email)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -63,6 +69,22 @@ CREATE TABLE post_images (
     FOREIGN KEY (post_id) REFERENCES posts(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+CREATE TABLE post_view_stats (
+  post_id BIGINT UNSIGNED NOT NULL,
+  view_count BIGINT NOT NULL DEFAULT 0,
+  unique_viewer_count BIGINT NOT NULL DEFAULT 0,
+  viewer_sketch VARBINARY(1024) NOT NULL,
+  PRIMARY KEY (post_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE timeline_entries (
+  owner_email VARCHAR(255) NOT NULL,
+  post_id BIGINT UNSIGNED NOT NULL,
+  created_at DATETIME NOT NULL,
+  PRIMARY KEY (owner_email, post_id),
+  KEY idx_timeline_entries_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 CREATE TABLE post_comments (
   id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   post_id BIGINT UNSIGNED NOT NULL,
@@ -70,6 +92,7 @@ CREATE TABLE post_comments (
   content TEXT NOT NULL,
   created_at DATETIME NOT NULL,
   PRIMARY KEY (id),
+  KEY idx_post_comments_post_created_at_id (post_id, created_at, id),
   CONSTRAINT fk_post_comments_post
     FOREIGN KEY (post_id) REFERENCES posts(id),
   CONSTRAINT fk_post_comments_author
@@ -94,6 +117,7 @@ CREATE TABLE diet_records (
   record_date DATE NOT NULL,
   meal_type VARCHAR(255) NOT NULL,
   PRIMARY KEY (id),
+  KEY idx_diet_records_email_date (email, record_date),
   CONSTRAINT fk_diet_records_account
     FOREIGN KEY (email) REFERENCES accounts(email)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -122,6 +146,19 @@ CREATE TABLE diet_foods (
     FOREIGN KEY (food_id) REFERENCES foods(id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+CREATE TABLE daily_activity (
+  email VARCHAR(255) NOT NULL,
+  activity_date DATE NOT NULL,
+  exercise_minutes DOUBLE NOT NULL DEFAULT 0,
+  calories_burned DOUBLE NOT NULL DEFAULT 0,
+  protein DOUBLE NOT NULL DEFAULT 0,
+  calories_eaten DOUBLE NOT NULL DEFAULT 0,
+  has_record TINYINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (email, activity_date),
+  CONSTRAINT fk_daily_activity_account
+    FOREIGN KEY (email) REFERENCES accounts(email)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 CREATE TABLE exercises (
   id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   name VARCHAR(255) NOT NULL,
@@ -191,13 +228,41 @@ CREATE TABLE challenge_participants (
   progress_percentage DOUBLE NOT NULL DEFAULT 0,
   last_evaluated_at DATETIME DEFAULT NULL,
   completed_at DATETIME DEFAULT NULL,
+  email_partition TINYINT UNSIGNED AS (CRC32(email) % 32) STORED,
   PRIMARY KEY (challenge_id, email),
+  KEY idx_challenge_participants_email_status (email, status),
+  KEY idx_challenge_participants_partition (challenge_id, email_partition),
   CONSTRAINT fk_challenge_participants_challenge
     FOREIGN KEY (challenge_id) REFERENCES challenges(id),
   CONSTRAINT fk_challenge_participants_account
     FOREIGN KEY (email) REFERENCES accounts(email)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+CREATE TABLE challenge_success_days (
+  challenge_id BIGINT UNSIGNED NOT NULL,
+  email VARCHAR(255) NOT NULL,
+  success_date DATE NOT NULL,
+  email_partition TINYINT UNSIGNED AS (CRC32(email) % 32) STORED,
+  PRIMARY KEY (challenge_id, email, success_date),
+  KEY idx_challenge_success_days_partition (challenge_id, email_partition),
+  CONSTRAINT fk_challenge_success_days_challenge
+    FOREIGN KEY (challenge_id) REFERENCES challenges(id),
+  CONSTRAINT fk_challenge_success_days_account
+    FOREIGN KEY (email) REFERENCES accounts(email)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE challenge_batch_partitions (
+  run_date DATE NOT NULL,
+  challenge_id BIGINT UNSIGNED NOT NULL,
+  partition_no INT NOT NULL,
+  status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+  evaluated_count INT NOT NULL DEFAULT 0,
+  claimed_at DATETIME DEFAULT NULL,
+  finished_at DATETIME DEFAULT NULL,
+  PRIMARY KEY (run_date, challenge_id, partition_no),
+  KEY idx_challenge_batch_partitions_status (status, run_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 CREATE TABLE account_titles (
   id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
   title_id BIGINT UNSIGNED NOT NULL,
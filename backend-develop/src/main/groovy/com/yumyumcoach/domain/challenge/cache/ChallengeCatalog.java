@@ -0,0 +1,40 @@
+package com.yumyumcoach.domain.challenge.cache;
+
+import com.yumyumcoach.domain.challenge.entity.Challenge;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 달치 챌린지 카탈로그 스냅샷 (모든 사용자가 공유하는 목록 + 챌린지별 참여 인원 수).
+ * - 불변 객체라 읽는 쪽은 락 없이 사용하고, 인원 수가 바뀌면 withCountDelta 로 만든 새 스냅샷으로 교체한다.
+ *
+ * @param challenges        시작일 순 챌린지 목록 (목록 화면용 컬럼만, ruleDescription 은 null)
+ * @param participantsCounts 챌린지 ID → 참여 인원 수
+ * @param loadedAtNanos     DB 에서 읽어 온 시각 (System.nanoTime), 인원 수 반영으로 교체돼도 유지된다.
+ */
+public record ChallengeCatalog(List<Challenge> challenges, Map<Long, Integer> participantsCounts, long loadedAtNanos) {
+
+    public ChallengeCatalog {
+        challenges = List.copyOf(challenges);
+        participantsCounts = Map.copyOf(participantsCounts);
+    }
+
+    public int participantsCount(Long challengeId) {
+        return participantsCounts.getOrDefault(challengeId, 0);
+    }
+
+    public boolean contains(Long challengeId) {
+        return challenges.stream().anyMatch(challenge -> challenge.getId().equals(challengeId));
+    }
+
+    /**
+     * 한 챌린지의 참여 인원 수만 바꾼 새 스냅샷
+     */
+    public ChallengeCatalog withCountDelta(Long challengeId, int delta) {
+        Map<Long, Integer> changed = new HashMap<>(participantsCounts);
+        changed.merge(challengeId, delta, (current, d) -> Math.max(0, current + d));
+        return new ChallengeCatalog(challenges, changed, loadedAtNanos);
+    }
+}
@@ -0,0 +1,130 @@
+package com.yumyumcoach.domain.challenge.cache;
+
+import com.yumyumcoach.domain.challenge.entity.Challenge;
+import com.yumyumcoach.domain.challenge.entity.ChallengeParticipantCount;
+import com.yumyumcoach.domain.challenge.event.ChallengeParticipationEvent;
+import com.yumyumcoach.domain.challenge.mapper.ChallengeMapper;
+import com.yumyumcoach.domain.challenge.mapper.ChallengeParticipantMapper;
+import com.yumyumcoach.global.cache.BoundedCache;
+import com.yumyumcoach.global.cache.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 월별 챌린지 카탈로그 캐시 (YearMonth → ChallengeCatalog).
+ * - 챌린지 목록과 참여 인원 수는 사용자와 무관하므로 달마다 한 번만 읽어 모든 요청이 공유한다.
+ * - 이 서버에서 커밋된 참여 / 사전 신청 취소는 캐시된 스냅샷의 인원 수에 바로 반영한다.
+ * - 다른 서버에서 생긴 변경과 challenges 행 직접 수정(운영 반영)은 TTL 이 지나면 다시 읽어 맞춘다.
+ *   즉시 반영이 필요하면 invalidate / invalidateAll 을 호출한다.
+ * - 읽어 오는 도중 그 달의 인원 수가 바뀌면 읽은 값을 저장하지 않는다. (달별 버전 비교)
+ */
+@Slf4j
+@Component
+public class ChallengeCatalogCache {
+    private static final long MAX_CACHED_MONTHS = 24;
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final ChallengeMapper challengeMapper;
+    private final ChallengeParticipantMapper challengeParticipantMapper;
+    private final BoundedCache<YearMonth, ChallengeCatalog> catalogs = BoundedCache.ofSize(MAX_CACHED_MONTHS, TTL);
+    private final ConcurrentHashMap<YearMonth, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public ChallengeCatalogCache(ChallengeMapper challengeMapper, ChallengeParticipantMapper challengeParticipantMapper) {
+        this.challengeMapper = challengeMapper;
+        this.challengeParticipantMapper = challengeParticipantMapper;
+    }
+
+    /**
+     * 해당 달(시작일 기준)의 챌린지 카탈로그. 캐시에 없으면 DB 에서 읽어 온다.
+     */
+    public ChallengeCatalog get(YearMonth month) {
+        ChallengeCatalog catalog = catalogs.get(month);
+        if (catalog != null && System.nanoTime() - catalog.loadedAtNanos() < TTL.toNanos()) {
+            return catalog;
+        }
+
+        long readVersion = version(month).get();
+        catalog = load(month);
+        synchronized (this) {
+            if (version(month).get() == readVersion) {
+                catalogs.put(month, catalog);
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * 해당 달의 카탈로그를 버린다. (챌린지 추가 / 수정 / 비활성화 반영)
+     */
+    public void invalidate(YearMonth month) {
+        synchronized (this) {
+            version(month).incrementAndGet();
+            catalogs.invalidate(month);
+        }
+    }
+
+    /**
+     * 모든 달의 카탈로그를 버린다.
+     */
+    public void invalidateAll() {
+        synchronized (this) {
+            versions.values().forEach(AtomicLong::incrementAndGet);
+            catalogs.invalidateAll();
+        }
+    }
+
+    public CacheStats stats() {
+        return catalogs.stats();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onParticipationEvent(ChallengeParticipationEvent event) {
+        YearMonth month = event.getMonth();
+        synchronized (this) {
+            version(month).incrementAndGet();
+            ChallengeCatalog current = catalogs.get(month);
+            if (current != null && current.contains(event.getChallengeId())) {
+                catalogs.put(month, current.withCountDelta(event.getChallengeId(), event.getDelta()));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void logStats() {
+        log.info("챌린지 카탈로그 캐시 : {}", catalogs.stats());
+    }
+
+    private ChallengeCatalog load(YearMonth month) {
+        long loadedAt = System.nanoTime();
+        List<Challenge> challenges = challengeMapper.findByPeriod(month.atDay(1), month.atEndOfMonth());
+        if (challenges.isEmpty()) {
+            return new ChallengeCatalog(challenges, Map.of(), loadedAt);
+        }
+
+        List<Long> challengeIds = challenges.stream()
+                .map(Challenge::getId)
+                .toList();
+        Map<Long, Integer> participantsCounts = challengeParticipantMapper.countByChallengeIds(challengeIds).stream()
+                .collect(Collectors.toMap(
+                        ChallengeParticipantCount::getChallengeId,
+                        ChallengeParticipantCount::getParticipantsCount
+                ));
+        return new ChallengeCatalog(challenges, participantsCounts, loadedAt);
+    }
+
+    private AtomicLong version(YearMonth month) {
+        return versions.computeIfAbsent(month, key -> new AtomicLong());
+    }
+}
@@ -0,0 +1,63 @@
+package com.yumyumcoach.domain.challenge.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 진행률 평가 대상 참여 정보 (challenge_participants + challenges 의 목표/기간).
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActiveParticipation {
+
+    /**
+     * 챌린지 ID
+     */
+    private Long challengeId;
+
+    /**
+     * 참여한 사용자 이메일
+     */
+    private String email;
+
+    /**
+     * 챌린지 목표 타입 (GoalType 코드)
+     */
+    private String goalType;
+
+    /**
+     * 이 유저 기준 최소 성공해야 하는 일수
+     */
+    private Integer requiredSuccessDays;
+
+    /**
+     * 하루 기준 목표 값 (DAY_COUNT_SIMPLE 이면 null)
+     */
+    private Double dailyTargetValue;
+
+    /**
+     * 챌린지 시작일
+     */
+    private LocalDate startDate;
+
+    /**
+     * 챌린지 종료일
+     */
+    private LocalDate endDate;
+
+    /**
+     * 성공 일수에 대한 진행률 (0.0 ~ 100.0, 소수 첫째 자리까지)
+     */
+    public double progressPercentage(int successDays) {
+        if (requiredSuccessDays == null || requiredSuccessDays <= 0) {
+            return 100.0;
+        }
+        return Math.min(100.0, Math.round(successDays * 1000.0 / requiredSuccessDays) / 10.0);
+    }
+}
@@ -0,0 +1,56 @@
+package com.yumyumcoach.domain.challenge.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 챌린지 진행률 일괄 재평가 파티션 (challenge_batch_partitions).
+ * 실행일 + 챌린지 + 이메일 해시(CRC32(email) % 파티션 수) 로 참여자를 나눈 단위.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChallengeBatchPartition {
+
+    /**
+     * 실행일
+     */
+    private LocalDate runDate;
+
+    /**
+     * 챌린지 ID
+     */
+    private Long challengeId;
+
+    /**
+     * 파티션 번호 (0 ~ 파티션 수 - 1)
+     */
+    private Integer partitionNo;
+
+    /**
+     * 진행 상태
+     * 예) PENDING / RUNNING / DONE
+     */
+    private String status;
+
+    /**
+     * 평가한 참여자 수 (DONE 일 때)
+     */
+    private Integer evaluatedCount;
+
+    /**
+     * 마지막으로 처리를 시작한 시각
+     */
+    private LocalDateTime claimedAt;
+
+    /**
+     * 처리를 마친 시각
+     */
+    private LocalDateTime finishedAt;
+}
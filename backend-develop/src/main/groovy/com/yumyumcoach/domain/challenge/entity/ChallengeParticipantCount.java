@@ -0,0 +1,26 @@
+package com.yumyumcoach.domain.challenge.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 챌린지별 참여 인원 수 (challenge_participants 를 challenge_id 로 묶어 센 결과)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChallengeParticipantCount {
+
+    /**
+     * 챌린지 ID
+     */
+    private Long challengeId;
+
+    /**
+     * 참여 인원 수
+     */
+    private Integer participantsCount;
+}
@@ -0,0 +1,28 @@
+package com.yumyumcoach.domain.challenge.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 참여자의 성공한 날짜 하나 (일괄 재평가의 집계 결과).
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChallengeSuccessDay {
+
+    /**
+     * 사용자 이메일
+     */
+    private String email;
+
+    /**
+     * 하루 목표를 채운 날짜
+     */
+    private LocalDate successDate;
+}
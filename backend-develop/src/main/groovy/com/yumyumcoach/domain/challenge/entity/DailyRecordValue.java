@@ -0,0 +1,28 @@
+package com.yumyumcoach.domain.challenge.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자의 하루치 기록 집계 값 (운동 시간 합계, 단백질 합계 등).
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRecordValue {
+
+    /**
+     * 기록 날짜
+     */
+    private LocalDate recordDate;
+
+    /**
+     * 그 날짜의 집계 값
+     */
+    private Double value;
+}
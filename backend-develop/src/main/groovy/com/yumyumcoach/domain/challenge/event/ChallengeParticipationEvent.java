@@ -0,0 +1,41 @@
+package com.yumyumcoach.domain.challenge.event;
+
+import com.yumyumcoach.domain.challenge.entity.Challenge;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.YearMonth;
+
+/**
+ * 챌린지 참여 인원 변경 이벤트 (참여 / 사전 신청 취소).
+ * - ChallengeService 가 발행하고, 트랜잭션 커밋 이후 월별 챌린지 카탈로그 캐시가 인원 수에 반영한다.
+ * - 시작 후 중도 탈퇴는 참여 행이 남아 인원 수가 바뀌지 않으므로 발행하지 않는다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChallengeParticipationEvent {
+
+    /**
+     * 대상 챌린지 ID
+     */
+    private final Long challengeId;
+
+    /**
+     * 챌린지가 속한 달 (시작일 기준, 카탈로그 캐시 키)
+     */
+    private final YearMonth month;
+
+    /**
+     * 참여 인원 수 변화량 (+1 / -1)
+     */
+    private final int delta;
+
+    public static ChallengeParticipationEvent joined(Challenge challenge) {
+        return new ChallengeParticipationEvent(challenge.getId(), YearMonth.from(challenge.getStartDate()), 1);
+    }
+
+    public static ChallengeParticipationEvent cancelled(Challenge challenge) {
+        return new ChallengeParticipationEvent(challenge.getId(), YearMonth.from(challenge.getStartDate()), -1);
+    }
+}
@@ -0,0 +1,46 @@
+package com.yumyumcoach.domain.challenge.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자의 하루치 운동/식단 기록 변경 이벤트.
+ * - 기록을 추가/수정/삭제하는 쪽이 바뀐 날짜마다 발행하고(수정으로 날짜가 바뀌면 이전 날짜와 새 날짜 모두),
+ *   커밋 직전에 DailyActivityListener 가 그 날짜의 하루 활동 집계를 갱신하고,
+ *   트랜잭션 커밋 이후 ChallengeProgressListener 가 그 날짜만 다시 평가한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DailyRecordChangedEvent {
+
+    /**
+     * 기록 종류
+     */
+    public enum RecordType {
+        EXERCISE,
+        DIET
+    }
+
+    /**
+     * 기록한 사용자 이메일
+     */
+    private final String email;
+
+    /**
+     * 기록이 바뀐 날짜
+     */
+    private final LocalDate recordDate;
+
+    private final RecordType recordType;
+
+    public static DailyRecordChangedEvent exercise(String email, LocalDate recordDate) {
+        return new DailyRecordChangedEvent(email, recordDate, RecordType.EXERCISE);
+    }
+
+    public static DailyRecordChangedEvent diet(String email, LocalDate recordDate) {
+        return new DailyRecordChangedEvent(email, recordDate, RecordType.DIET);
+    }
+}
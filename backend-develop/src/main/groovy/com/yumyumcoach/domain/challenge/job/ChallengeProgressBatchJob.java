@@ -0,0 +1,280 @@
+package com.yumyumcoach.domain.challenge.job;
+
+import com.yumyumcoach.domain.challenge.entity.ActiveParticipation;
+import com.yumyumcoach.domain.challenge.entity.ChallengeBatchPartition;
+import com.yumyumcoach.domain.challenge.entity.ChallengeSuccessDay;
+import com.yumyumcoach.domain.challenge.mapper.ChallengeBatchMapper;
+import com.yumyumcoach.domain.challenge.mapper.ChallengeParticipantMapper;
+import com.yumyumcoach.domain.challenge.mapper.ChallengeProgressMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * 챌린지 진행률 야간 일괄 재평가 작업.
+ * - 진행 중(joined)인 모든 참여의 success_days / progress_percentage 를 기록에서 다시 계산해 맞춘다.
+ *   (평소에는 기록 변경 이벤트로 바뀐 날짜만 평가하므로, 놓친 이벤트나 룰/기록 직접 수정을 여기서 바로잡는다)
+ * - 참여자를 (챌린지, email_partition = CRC32(email) % PARTITIONS_PER_CHALLENGE) 파티션으로 나누고,
+ *   PARALLELISM 개 스레드에서 병렬로 처리한다. 파티션 인덱스로 그 파티션 행만 잠그므로 파티션끼리 막지 않는다.
+ * - 파티션 하나는 트랜잭션 하나 :
+ *   참여 행 잠금 → 성공한 날짜 집계 쿼리 한 번 → 성공 날짜 교체 / 진행률 갱신을 JDBC 배치(ExecutorType.BATCH)로 쓴다.
+ * - 파티션마다 challenge_batch_partitions 에 상태를 남겨, 서버가 죽어도 DONE 이 아닌 파티션부터 이어서 처리한다.
+ *   RUNNING 인 채로 STALE_CLAIM_MINUTES 가 지난 파티션은 다시 가져간다. (여러 서버가 동시에 돌아도 파티션은 한 곳에서만 처리)
+ * - 스케줄러 스레드를 오래 잡지 않도록 실제 작업은 별도 스레드에서 돌린다.
+ */
+@Slf4j
+@Component
+public class ChallengeProgressBatchJob {
+    /**
+     * challenge_participants / challenge_success_days.email_partition 생성 컬럼의 나머지 값과 같아야 한다.
+     */
+    private static final int PARTITIONS_PER_CHALLENGE = 32;
+    private static final int PARALLELISM = 4;
+    private static final long STALE_CLAIM_MINUTES = 30;
+    private static final long RESUME_LOOKBACK_DAYS = 2;
+    private static final int PROGRESS_LOG_INTERVAL = 50;
+
+    private static final String STATUS_DONE = "DONE";
+
+    private final ChallengeBatchMapper challengeBatchMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 파티션 쓰기용 매퍼. 같은 문장을 모아 JDBC 배치로 보내고, 트랜잭션 커밋 시 한 번에 실행한다.
+     */
+    private final ChallengeBatchMapper batchPartitionMapper;
+    private final ChallengeProgressMapper batchProgressMapper;
+    private final ChallengeParticipantMapper batchParticipantMapper;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "challenge-batch-coordinator");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService workers = Executors.newFixedThreadPool(PARALLELISM, runnable -> {
+        Thread thread = new Thread(runnable, "challenge-batch-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ChallengeProgressBatchJob(ChallengeBatchMapper challengeBatchMapper,
+                                     TransactionTemplate transactionTemplate,
+                                     SqlSessionFactory sqlSessionFactory) {
+        this.challengeBatchMapper = challengeBatchMapper;
+        this.transactionTemplate = transactionTemplate;
+
+        SqlSessionTemplate batchSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchPartitionMapper = batchSession.getMapper(ChallengeBatchMapper.class);
+        this.batchProgressMapper = batchSession.getMapper(ChallengeProgressMapper.class);
+        this.batchParticipantMapper = batchSession.getMapper(ChallengeParticipantMapper.class);
+    }
+
+    /**
+     * 매일 새벽 3시 30분 : 오늘 실행분 파티션을 만들고 처리한다.
+     * - 파티션은 실행 중인 작업이 있어도 먼저 만든다. (이미 있으면 무시)
+     *   재개 작업이 돌고 있어서 지금 시작하지 못하면, 다음 재개 때 오늘 실행분을 이어서 처리한다.
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void run() {
+        LocalDate runDate = LocalDate.now();
+        try {
+            createPartitions(runDate);
+        } catch (RuntimeException e) {
+            log.warn("챌린지 진행률 일괄 재평가 파티션 생성 실패 (runDate={})", runDate, e);
+            return;
+        }
+        start(runDate);
+    }
+
+    /**
+     * 중단된 실행분(최근 RESUME_LOOKBACK_DAYS 일)이 있으면 이어서 처리한다. (기동 직후 + 30분마다)
+     */
+    @Scheduled(fixedDelay = STALE_CLAIM_MINUTES, initialDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void resume() {
+        LocalDate runDate = challengeBatchMapper.findLatestUnfinishedRunDate(
+                LocalDate.now().minusDays(RESUME_LOOKBACK_DAYS));
+        if (runDate != null) {
+            start(runDate);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void start(LocalDate runDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("챌린지 진행률 일괄 재평가가 이미 실행 중입니다. (runDate={}, 다음 재개 때 처리)", runDate);
+            return;
+        }
+        coordinator.execute(() -> {
+            try {
+                evaluatePartitions(runDate);
+            } catch (RuntimeException e) {
+                log.warn("챌린지 진행률 일괄 재평가 실패 (runDate={}), 남은 파티션은 다음 재개 때 처리합니다.", runDate, e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    private void createPartitions(LocalDate runDate) {
+        List<Long> challengeIds = challengeBatchMapper.findChallengeIdsToEvaluate(runDate, runDate.minusDays(1));
+        if (challengeIds.isEmpty()) {
+            return;
+        }
+        List<Integer> partitionNos = IntStream.range(0, PARTITIONS_PER_CHALLENGE).boxed().toList();
+        challengeBatchMapper.insertPartitions(runDate, challengeIds, partitionNos);
+    }
+
+    private void evaluatePartitions(LocalDate runDate) {
+        List<ChallengeBatchPartition> partitions = challengeBatchMapper.findUnfinishedPartitions(runDate);
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        int total = challengeBatchMapper.countPartitions(runDate, null);
+        int alreadyDone = total - partitions.size();
+        long startedAt = System.nanoTime();
+        log.info("챌린지 진행률 일괄 재평가 시작 : runDate={}, 파티션 {}/{} 남음", runDate, partitions.size(), total);
+
+        Progress progress = new Progress(total, alreadyDone);
+        List<Future<?>> futures = new ArrayList<>(partitions.size());
+        for (ChallengeBatchPartition partition : partitions) {
+            futures.add(workers.submit(() -> evaluatePartition(partition, progress)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // evaluatePartition 안에서 로그를 남기고 되돌려 두었다.
+            }
+        }
+
+        log.info("챌린지 진행률 일괄 재평가 종료 : runDate={}, 완료 {}/{}, 실패 {}, 건너뜀 {}, 참여자 {}명, {}초",
+                runDate, progress.done.get(), total, progress.failed.get(), progress.skipped.get(),
+                progress.participants.sum(), TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt));
+    }
+
+    private void evaluatePartition(ChallengeBatchPartition partition, Progress progress) {
+        LocalDate runDate = partition.getRunDate();
+        Long challengeId = partition.getChallengeId();
+        int partitionNo = partition.getPartitionNo();
+
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = challengeBatchMapper.claimPartition(
+                runDate, challengeId, partitionNo, now.minusMinutes(STALE_CLAIM_MINUTES), now);
+        if (claimed == 0) {
+            // 다른 서버가 처리 중이거나 이미 끝남
+            progress.skipped.incrementAndGet();
+            return;
+        }
+
+        try {
+            Integer evaluated = transactionTemplate.execute(status -> evaluateParticipants(challengeId, partitionNo));
+            int evaluatedCount = evaluated != null ? evaluated : 0;
+            challengeBatchMapper.completePartition(runDate, challengeId, partitionNo, evaluatedCount, LocalDateTime.now());
+            progress.participants.add(evaluatedCount);
+            progress.logIfDue(progress.done.incrementAndGet());
+        } catch (RuntimeException e) {
+            progress.failed.incrementAndGet();
+            log.warn("챌린지 진행률 파티션 재평가 실패 (challengeId={}, partition={}), 다음 재개 때 재시도합니다.",
+                    challengeId, partitionNo, e);
+            challengeBatchMapper.releasePartition(runDate, challengeId, partitionNo);
+            throw e;
+        }
+    }
+
+    /**
+     * 파티션 하나 재평가 (트랜잭션 안에서, 배치 매퍼로만 실행)
+     *
+     * @return 평가한 참여자 수
+     */
+    private int evaluateParticipants(Long challengeId, int partitionNo) {
+        // 1) 참여 행 잠금 : 같은 참여자의 이벤트 기반 평가와 겹치지 않게 한다.
+        List<ActiveParticipation> participations = batchPartitionMapper.findPartitionParticipantsForUpdate(
+                challengeId, partitionNo);
+        if (participations.isEmpty()) {
+            return 0;
+        }
+
+        // 2) 파티션 참여자 전체의 성공한 날짜를 한 번에 집계
+        ActiveParticipation first = participations.get(0);
+        List<ChallengeSuccessDay> successDays = batchPartitionMapper.findPartitionSuccessDays(
+                challengeId, first.getGoalType(), partitionNo,
+                first.getStartDate(), first.getEndDate());
+
+        // 3) 성공 날짜 교체 (DELETE 한 번 + INSERT 배치)
+        batchPartitionMapper.deletePartitionSuccessDays(challengeId, partitionNo);
+        Map<String, Integer> successDaysByEmail = new HashMap<>();
+        for (ChallengeSuccessDay successDay : successDays) {
+            batchProgressMapper.insertSuccessDay(challengeId, successDay.getEmail(), successDay.getSuccessDate());
+            successDaysByEmail.merge(successDay.getEmail(), 1, Integer::sum);
+        }
+
+        // 4) 성공 일수 / 진행률 갱신 (UPDATE 배치)
+        LocalDateTime evaluatedAt = LocalDateTime.now();
+        for (ActiveParticipation participation : participations) {
+            int count = successDaysByEmail.getOrDefault(participation.getEmail(), 0);
+            batchParticipantMapper.updateProgressAndSuccessDays(
+                    challengeId,
+                    participation.getEmail(),
+                    count,
+                    participation.progressPercentage(count),
+                    evaluatedAt
+            );
+        }
+        return participations.size();
+    }
+
+    /**
+     * 실행 한 번의 진행 상황
+     */
+    private static final class Progress {
+        final int total;
+        final int alreadyDone;
+        final AtomicInteger done = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicInteger skipped = new AtomicInteger();
+        final LongAdder participants = new LongAdder();
+
+        Progress(int total, int alreadyDone) {
+            this.total = total;
+            this.alreadyDone = alreadyDone;
+        }
+
+        void logIfDue(int doneCount) {
+            if (doneCount % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("챌린지 진행률 일괄 재평가 진행 : 파티션 {}/{}, 참여자 {}명",
+                        alreadyDone + doneCount, total, participants.sum());
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.yumyumcoach.domain.challenge.mapper;
+
+import com.yumyumcoach.domain.challenge.entity.ActiveParticipation;
+import com.yumyumcoach.domain.challenge.entity.ChallengeBatchPartition;
+import com.yumyumcoach.domain.challenge.entity.ChallengeSuccessDay;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 챌린지 진행률 일괄 재평가(ChallengeProgressBatchJob)용 MyBatis Mapper.
+ * - 파티션은 (챌린지 ID, email_partition) 로 나눈다. (email_partition = CRC32(email) % 32, 인덱스가 있는 생성 컬럼)
+ */
+@Mapper
+public interface ChallengeBatchMapper {
+
+    /**
+     * 재평가 대상 챌린지 ID (진행 중 참여자가 있고, 시작했으며 endedSince 이후에 끝나는 챌린지)
+     *
+     * @param today      실행일
+     * @param endedSince 이 날짜 이후에 끝난 챌린지까지 포함 (마지막 날 기록 반영용)
+     */
+    List<Long> findChallengeIdsToEvaluate(@Param("today") LocalDate today,
+                                          @Param("endedSince") LocalDate endedSince);
+
+    /**
+     * 실행일의 파티션 행을 만든다. (이미 있으면 무시)
+     *
+     * @param challengeIds   챌린지 ID 목록 (비어 있으면 안 됨)
+     * @param partitionNos   파티션 번호 목록
+     */
+    int insertPartitions(@Param("runDate") LocalDate runDate,
+                         @Param("challengeIds") List<Long> challengeIds,
+                         @Param("partitionNos") List<Integer> partitionNos);
+
+    /**
+     * 아직 끝나지 않은(DONE 이 아닌) 파티션
+     */
+    List<ChallengeBatchPartition> findUnfinishedPartitions(@Param("runDate") LocalDate runDate);
+
+    /**
+     * 끝나지 않은 파티션이 남아 있는 가장 최근 실행일
+     *
+     * @param since 이 날짜 이후 실행분만 본다.
+     * @return 실행일, 없으면 null
+     */
+    LocalDate findLatestUnfinishedRunDate(@Param("since") LocalDate since);
+
+    /**
+     * 파티션 전체 / 완료 개수 (진행 상황 확인용)
+     */
+    int countPartitions(@Param("runDate") LocalDate runDate, @Param("status") String status);
+
+    /**
+     * 파티션을 가져간다. PENDING 이거나 staleBefore 이전부터 RUNNING 인 파티션만 가져갈 수 있다.
+     *
+     * @return 가져갔으면 1, 다른 서버가 처리 중이거나 끝났으면 0
+     */
+    int claimPartition(@Param("runDate") LocalDate runDate,
+                       @Param("challengeId") Long challengeId,
+                       @Param("partitionNo") int partitionNo,
+                       @Param("staleBefore") LocalDateTime staleBefore,
+                       @Param("claimedAt") LocalDateTime claimedAt);
+
+    /**
+     * 파티션을 완료 처리한다.
+     */
+    int completePartition(@Param("runDate") LocalDate runDate,
+                          @Param("challengeId") Long challengeId,
+                          @Param("partitionNo") int partitionNo,
+                          @Param("evaluatedCount") int evaluatedCount,
+                          @Param("finishedAt") LocalDateTime finishedAt);
+
+    /**
+     * 실패한 파티션을 다시 대기 상태로 돌린다.
+     */
+    int releasePartition(@Param("runDate") LocalDate runDate,
+                         @Param("challengeId") Long challengeId,
+                         @Param("partitionNo") int partitionNo);
+
+    /**
+     * 파티션의 진행 중 참여자를 잠그고 조회한다.
+     */
+    List<ActiveParticipation> findPartitionParticipantsForUpdate(@Param("challengeId") Long challengeId,
+                                                                 @Param("partitionNo") int partitionNo);
+
+    /**
+     * 파티션 참여자들의 성공한 날짜를 한 번에 집계한다.
+     * - DAY_COUNT_SIMPLE : 운동 또는 식단 기록이 있는 날
+     * - PROTEIN_PER_DAY : 단백질 합계가 참여자의 하루 목표 이상인 날
+     * - EXERCISE_MINUTES_PER_DAY : 운동 시간 합계가 참여자의 하루 목표 이상인 날
+     *
+     * @param goalType 챌린지 목표 타입 코드
+     * @param from     챌린지 시작일
+     * @param to       챌린지 종료일
+     */
+    List<ChallengeSuccessDay> findPartitionSuccessDays(@Param("challengeId") Long challengeId,
+                                                       @Param("goalType") String goalType,
+                                                       @Param("partitionNo") int partitionNo,
+                                                       @Param("from") LocalDate from,
+                                                       @Param("to") LocalDate to);
+
+    /**
+     * 파티션 진행 중 참여자들의 성공 날짜를 모두 지운다.
+     */
+    int deletePartitionSuccessDays(@Param("challengeId") Long challengeId,
+                                   @Param("partitionNo") int partitionNo);
+}
@@ -16,6 +16,7 @@ public interface ChallengeMapper {
     /**
      * 특정 기간에 시작되는 챌린지 목록을 조회한다.
      * - 이번 달 챌린지, 다음 달 챌린지 등 조회에 사용.
+     * - 목록용이라 ruleDescription 은 읽지 않는다. (null)
      *
      * @param startDate 조회 시작일(포함)
      * @param endDate   조회 종료일(포함)
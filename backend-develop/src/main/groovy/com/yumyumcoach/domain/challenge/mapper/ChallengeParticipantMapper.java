@@ -2,10 +2,12 @@ package com.yumyumcoach.domain.challenge.mapper;
 
 
 import com.yumyumcoach.domain.challenge.entity.ChallengeParticipant;
+import com.yumyumcoach.domain.challenge.entity.ChallengeParticipantCount;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 공용 챌린지 참여 정보(challenge_participants) 테이블용 MyBatis Mapper.
@@ -22,6 +24,18 @@ public interface ChallengeParticipantMapper {
      */
     ChallengeParticipant findByChallengeIdAndEmail(@Param("challengeId") Long challengeId, @Param("email") String email);
 
+    /**
+     * 여러 챌린지에 대한 한 사용자의 참여 정보를 한 번에 조회한다. (목록 조회용)
+     *
+     * @param challengeIds 챌린지 ID 목록 (비어 있으면 안 됨)
+     * @param email        사용자 이메일
+     * @return 참여 정보 목록, 참여하지 않은 챌린지는 포함되지 않는다.
+     */
+    List<ChallengeParticipant> findByChallengeIdsAndEmail(
+            @Param("challengeIds") List<Long> challengeIds,
+            @Param("email") String email
+    );
+
     /**
      * 사용자가 해당 챌린지에 이미 참여 중인지 여부를 조회한다.
      *
@@ -72,6 +86,24 @@ public interface ChallengeParticipantMapper {
             @Param("evaluatedAt") LocalDateTime evaluatedAt
     );
 
+    /**
+     * 성공 일수, 진행률, 마지막 평가 시각을 함께 갱신한다.
+     *
+     * @param challengeId        챌린지 ID
+     * @param email              사용자 이메일
+     * @param successDays        성공한 일수
+     * @param progressPercentage 진행률(0.0 ~ 100.0)
+     * @param evaluatedAt        평가 시각
+     * @return 업데이트된 row 수
+     */
+    int updateProgressAndSuccessDays(
+            @Param("challengeId") Long challengeId,
+            @Param("email") String email,
+            @Param("successDays") int successDays,
+            @Param("progressPercentage") Double progressPercentage,
+            @Param("evaluatedAt") LocalDateTime evaluatedAt
+    );
+
     /**
      * 챌린지 사전 신청을 취소한다.
      *
@@ -92,4 +124,12 @@ public interface ChallengeParticipantMapper {
      */
     int countByChallengeId(@Param("challengeId") Long challengeId);
 
+    /**
+     * 여러 챌린지의 참여 인원 수를 한 번에 조회한다. (목록 조회용)
+     *
+     * @param challengeIds 챌린지 ID 목록 (비어 있으면 안 됨)
+     * @return 챌린지별 참여 인원 수, 참여자가 없는 챌린지는 포함되지 않는다.
+     */
+    List<ChallengeParticipantCount> countByChallengeIds(@Param("challengeIds") List<Long> challengeIds);
+
 }
@@ -0,0 +1,95 @@
+package com.yumyumcoach.domain.challenge.mapper;
+
+import com.yumyumcoach.domain.challenge.entity.ActiveParticipation;
+import com.yumyumcoach.domain.challenge.entity.DailyRecordValue;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 챌린지 진행률 평가용 MyBatis Mapper.
+ * - 평가 대상 참여 조회, 날짜별 기록 집계(daily_activity), 성공 날짜(challenge_success_days) 관리.
+ */
+@Mapper
+public interface ChallengeProgressMapper {
+
+    /**
+     * 해당 날짜가 기간에 포함되는 사용자의 진행 중(joined) 참여를 잠그고 조회한다.
+     * - 같은 참여를 동시에 평가하는 요청끼리 순서를 맞추기 위해 FOR UPDATE 로 읽는다.
+     *
+     * @param email 사용자 이메일
+     * @param date  평가할 날짜
+     */
+    List<ActiveParticipation> findActiveByEmailAndDateForUpdate(@Param("email") String email,
+                                                                @Param("date") LocalDate date);
+
+    /**
+     * 진행 중(joined)인 참여 하나를 잠그고 조회한다.
+     *
+     * @return 참여 정보, 없거나 진행 중이 아니면 null
+     */
+    ActiveParticipation findActiveForUpdate(@Param("challengeId") Long challengeId,
+                                            @Param("email") String email);
+
+    /**
+     * 기간 내 날짜별 운동 시간(분) 합계
+     */
+    List<DailyRecordValue> sumExerciseMinutesByDate(@Param("email") String email,
+                                                    @Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to);
+
+    /**
+     * 기간 내 날짜별 섭취 단백질(g) 합계 (음식 단백질 × 섭취 인분)
+     */
+    List<DailyRecordValue> sumProteinByDate(@Param("email") String email,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
+
+    /**
+     * 기간 내 운동 또는 식단 기록이 하나라도 있는 날짜
+     */
+    List<LocalDate> findRecordedDates(@Param("email") String email,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+
+    /**
+     * 성공 날짜를 추가한다.
+     *
+     * @return 새로 추가됐으면 1, 이미 있으면 0
+     */
+    int insertSuccessDay(@Param("challengeId") Long challengeId,
+                         @Param("email") String email,
+                         @Param("successDate") LocalDate successDate);
+
+    /**
+     * 여러 성공 날짜를 한 번에 추가한다.
+     *
+     * @param successDates 추가할 날짜 목록 (비어 있으면 안 됨)
+     */
+    int insertSuccessDays(@Param("challengeId") Long challengeId,
+                          @Param("email") String email,
+                          @Param("successDates") List<LocalDate> successDates);
+
+    /**
+     * 성공 날짜를 지운다.
+     *
+     * @return 지워졌으면 1, 없었으면 0
+     */
+    int deleteSuccessDay(@Param("challengeId") Long challengeId,
+                         @Param("email") String email,
+                         @Param("successDate") LocalDate successDate);
+
+    /**
+     * 참여 하나의 성공 날짜를 모두 지운다.
+     */
+    int deleteSuccessDays(@Param("challengeId") Long challengeId,
+                          @Param("email") String email);
+
+    /**
+     * 참여 하나의 성공 날짜 수
+     */
+    int countSuccessDays(@Param("challengeId") Long challengeId,
+                         @Param("email") String email);
+}
@@ -2,20 +2,14 @@ package com.yumyumcoach.domain.challenge.mapper;
 
 import com.yumyumcoach.domain.challenge.entity.ChallengeRule;
 import org.apache.ibatis.annotations.Mapper;
-import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 @Mapper
 public interface ChallengeRuleMapper {
 
     /**
-     * 챌린지 + 난이도 기준으로 룰 한 건을 조회한다.
-     *
-     * @param challengeId   챌린지 ID
-     * @param difficultyCode 난이도 코드 (BEGINNER / INTERMEDIATE / ADVANCED)
+     * 모든 챌린지 룰을 조회한다. (ChallengeRuleResolver 스냅샷 적재용)
      */
-    ChallengeRule findByChallengeIdAndDifficulty(
-            @Param("challengeId") Long challengeId,
-            @Param("difficultyCode") String difficultyCode
-    );
+    List<ChallengeRule> findAll();
 }
-
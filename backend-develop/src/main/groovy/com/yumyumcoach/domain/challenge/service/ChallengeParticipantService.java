@@ -1,19 +1,33 @@
 package com.yumyumcoach.domain.challenge.service;
 
-import com.yumyumcoach.domain.challenge.entity.Challenge;
-import com.yumyumcoach.domain.challenge.entity.ChallengeParticipant;
+import com.yumyumcoach.domain.challenge.entity.ActiveParticipation;
+import com.yumyumcoach.domain.challenge.entity.DailyRecordValue;
+import com.yumyumcoach.domain.challenge.event.DailyRecordChangedEvent.RecordType;
 import com.yumyumcoach.domain.challenge.mapper.ChallengeMapper;
 import com.yumyumcoach.domain.challenge.mapper.ChallengeParticipantMapper;
+import com.yumyumcoach.domain.challenge.mapper.ChallengeProgressMapper;
 import com.yumyumcoach.domain.challenge.model.GoalType;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 챌린지 참여자 관련 비즈니스 로직을 담당하는 서비스.
  * 진행률 / 성공 일수 평가 (successDays, progressPercentage 갱신)
+ * - 날짜별 성공 여부는 challenge_success_days 에 행으로 남기고, success_days 는 그 행 수로 맞춘다.
+ * - 운동/식단 기록이 바뀌면 그 (사용자, 날짜) 하나만 다시 평가한다. (evaluateDay)
+ * - evaluateProgress 는 참여 기간 전체를 다시 계산한다. (보정용)
  */
 @Service
 @RequiredArgsConstructor
@@ -21,60 +35,134 @@ import java.time.LocalDateTime;
 public class ChallengeParticipantService {
     private final ChallengeMapper challengeMapper;
     private final ChallengeParticipantMapper challengeParticipantMapper;
+    private final ChallengeProgressMapper challengeProgressMapper;
 
     /**
-     * 특정 챌린지에 참여 중인 한 명의 사용자의 진행률을 재평가한다.
-     * TODO: successDays 계산 쿼리/로직 구현하기
+     * 특정 챌린지에 참여 중인 한 명의 사용자의 진행률을 기간 전체 기준으로 재평가한다.
+     * 진행 중(joined)이 아닌 참여(완료/탈퇴)는 그대로 둔다.
      *
      * @param challengeId 챌린지 ID
      * @param email       사용자 이메일
      */
     @Transactional
     public void evaluateProgress(Long challengeId, String email) {
-        // 1) 챌린지 / 참여 정보 조회
-        Challenge challenge = challengeMapper.findById(challengeId);
-        if (challenge == null) {
-            // TODO: 커스텀 예외로 교체
-            throw new IllegalArgumentException("존재하지 않는 챌린지입니다. id=" + challengeId);
+        // 1) 참여 정보 조회 (행 잠금)
+        ActiveParticipation participation = challengeProgressMapper.findActiveForUpdate(challengeId, email);
+        if (participation == null) {
+            if (challengeMapper.findById(challengeId) == null) {
+                throw new BusinessException(ErrorCode.CHALLENGE_NOT_FOUND);
+            }
+            if (challengeParticipantMapper.findByChallengeIdAndEmail(challengeId, email) == null) {
+                throw new BusinessException(ErrorCode.CHALLENGE_JOIN_NOT_FOUND);
+            }
+            return;
         }
 
-        ChallengeParticipant participant = challengeParticipantMapper.findByChallengeIdAndEmail(challengeId, email);
-        if (participant == null) {
-            // TODO: 커스텀 예외로 교체
-            throw new IllegalStateException("참여 이력이 없는 챌린지입니다.");
+        // 2) 기간 내 성공한 날짜 계산
+        GoalType goalType = GoalType.from(participation.getGoalType());
+        Map<LocalDate, Double> dailyValues =
+                loadDailyValues(goalType, email, participation.getStartDate(), participation.getEndDate());
+        List<LocalDate> successDates = new ArrayList<>();
+        dailyValues.forEach((date, value) -> {
+            if (isSuccess(participation, goalType, value)) {
+                successDates.add(date);
+            }
+        });
+
+        // 3) 성공 날짜 교체 후 성공 일수 / 진행률 반영
+        challengeProgressMapper.deleteSuccessDays(challengeId, email);
+        if (!successDates.isEmpty()) {
+            challengeProgressMapper.insertSuccessDays(challengeId, email, successDates);
         }
+        updateProgress(participation, successDates.size());
+    }
 
-        // 2) 목표 타입에 따라 분기 (실제 쿼리/계산은 다음 이슈에서 구현)
-        GoalType goalType = GoalType.from(challenge.getGoalType());
+    /**
+     * 하루치 기록이 바뀐 사용자의 해당 날짜만 다시 평가한다.
+     * - 그 날짜가 기간에 포함되고, 바뀐 기록 종류가 목표에 영향을 주는 진행 중 참여만 대상이다.
+     * - 성공 여부가 바뀐 참여만 success_days / progress_percentage 를 갱신한다.
+     * - 기록 트랜잭션 커밋 이후에 호출되므로 별도 트랜잭션에서 실행한다.
+     *
+     * @param email      사용자 이메일
+     * @param date       기록이 바뀐 날짜
+     * @param recordType 바뀐 기록 종류
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void evaluateDay(String email, LocalDate date, RecordType recordType) {
+        // 참여 행을 먼저 잠가서, 같은 사용자의 평가끼리는 잠금 이후의 기록을 보고 순서대로 반영되게 한다.
+        List<ActiveParticipation> participations =
+                challengeProgressMapper.findActiveByEmailAndDateForUpdate(email, date);
 
-        // TODO: goalType / participant 정보에 따라 successDays / progressPercentage 계산
-        // int successDays = ...
-        // double progress = ...
+        Map<GoalType, Double> valueByGoalType = new EnumMap<>(GoalType.class);
+        for (ActiveParticipation participation : participations) {
+            GoalType goalType = GoalType.from(participation.getGoalType());
+            if (!isAffectedBy(goalType, recordType)) {
+                continue;
+            }
 
-        // 지금은 껍데기만, 실제 값은 다음 이슈에서 구현
-        // 일단 0으로 초기화 예시만 넣어둔다.
-        int successDays = participant.getSuccessDays() != null ? participant.getSuccessDays() : 0;
-        double progress = participant.getProgressPercentage() != null
-                ? participant.getProgressPercentage()
-                : 0.0;
+            Double value = valueByGoalType.computeIfAbsent(goalType,
+                    type -> loadDailyValues(type, email, date, date).getOrDefault(date, 0.0));
+            boolean success = isSuccess(participation, goalType, value);
 
-        LocalDateTime now = LocalDateTime.now();
+            int changed = success
+                    ? challengeProgressMapper.insertSuccessDay(participation.getChallengeId(), email, date)
+                    : challengeProgressMapper.deleteSuccessDay(participation.getChallengeId(), email, date);
+            if (changed > 0) {
+                int successDays = challengeProgressMapper.countSuccessDays(participation.getChallengeId(), email);
+                updateProgress(participation, successDays);
+            }
+        }
+    }
 
-        // 3) 엔티티에 반영
-        participant.updateProgress(successDays, progress, now);
+    /**
+     * 목표 타입별 날짜 → 하루 집계 값
+     * - DAY_COUNT_SIMPLE : 운동/식단 기록이 있는 날짜마다 1
+     * - PROTEIN_PER_DAY : 섭취 단백질(g) 합계
+     * - EXERCISE_MINUTES_PER_DAY : 운동 시간(분) 합계
+     */
+    private Map<LocalDate, Double> loadDailyValues(GoalType goalType, String email, LocalDate from, LocalDate to) {
+        Map<LocalDate, Double> values = new HashMap<>();
+        switch (goalType) {
+            case DAY_COUNT_SIMPLE -> challengeProgressMapper.findRecordedDates(email, from, to)
+                    .forEach(date -> values.put(date, 1.0));
+            case PROTEIN_PER_DAY -> challengeProgressMapper.sumProteinByDate(email, from, to)
+                    .forEach(daily -> values.put(daily.getRecordDate(), valueOf(daily)));
+            case EXERCISE_MINUTES_PER_DAY -> challengeProgressMapper.sumExerciseMinutesByDate(email, from, to)
+                    .forEach(daily -> values.put(daily.getRecordDate(), valueOf(daily)));
+        }
+        return values;
+    }
 
-        // 4. DB 반영
-        // 현재 Mapper 에는 successDays 까지 함께 업데이트하는 메서드가 없으므로
-        // 이 부분은 다음 이슈에서 함께 정의할 예정.
-        //
-        // 예시:
-        // challengeParticipantMapper.updateProgressAndSuccessDays(
-        //         challengeId,
-        //         email,
-        //         successDays,
-        //         progress,
-        //         now
-        // );
+    private static double valueOf(DailyRecordValue daily) {
+        return daily.getValue() != null ? daily.getValue() : 0.0;
+    }
+
+    private static boolean isAffectedBy(GoalType goalType, RecordType recordType) {
+        return switch (goalType) {
+            case DAY_COUNT_SIMPLE -> true;
+            case PROTEIN_PER_DAY -> recordType == RecordType.DIET;
+            case EXERCISE_MINUTES_PER_DAY -> recordType == RecordType.EXERCISE;
+        };
+    }
+
+    /**
+     * 하루 집계 값이 참여자의 하루 목표를 채웠는지
+     */
+    private static boolean isSuccess(ActiveParticipation participation, GoalType goalType, double value) {
+        if (goalType == GoalType.DAY_COUNT_SIMPLE) {
+            return value > 0;
+        }
+        Double target = participation.getDailyTargetValue();
+        return target != null && value >= target;
     }
-}
 
+    private void updateProgress(ActiveParticipation participation, int successDays) {
+        challengeParticipantMapper.updateProgressAndSuccessDays(
+                participation.getChallengeId(),
+                participation.getEmail(),
+                successDays,
+                participation.progressPercentage(successDays),
+                LocalDateTime.now()
+        );
+    }
+}
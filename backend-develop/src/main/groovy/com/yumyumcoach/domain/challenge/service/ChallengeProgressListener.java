@@ -0,0 +1,30 @@
+package com.yumyumcoach.domain.challenge.service;
+
+import com.yumyumcoach.domain.challenge.event.DailyRecordChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 운동/식단 기록이 커밋되면 바뀐 날짜의 챌린지 진행률을 다시 평가한다.
+ * - 기록은 이미 저장됐으므로 평가가 실패해도 기록 요청을 실패시키지 않고 로그만 남긴다.
+ *   (evaluateProgress 로 기간 전체를 다시 계산하면 맞춰진다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChallengeProgressListener {
+    private final ChallengeParticipantService challengeParticipantService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDailyRecordChanged(DailyRecordChangedEvent event) {
+        try {
+            challengeParticipantService.evaluateDay(event.getEmail(), event.getRecordDate(), event.getRecordType());
+        } catch (RuntimeException e) {
+            log.warn("챌린지 진행률 평가 실패 : email={}, date={}, type={}",
+                    event.getEmail(), event.getRecordDate(), event.getRecordType(), e);
+        }
+    }
+}
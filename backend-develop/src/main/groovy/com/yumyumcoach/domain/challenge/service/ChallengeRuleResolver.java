@@ -6,17 +6,39 @@ import com.yumyumcoach.domain.challenge.mapper.ChallengeRuleMapper;
 import com.yumyumcoach.domain.challenge.model.DifficultyCode;
 import com.yumyumcoach.domain.challenge.model.GoalType;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 /**
  * challenge_rules 테이블을 기반으로
  * 챌린지 + 난이도별 룰(최소 성공 일수, 하루 목표값)을 해석하는 헬퍼.
+ * - challenge_rules 는 작고 거의 바뀌지 않으므로 전체를 메모리 스냅샷(챌린지 ID → 난이도별 EnumMap)으로 들고
+ *   조회 시 DB 를 읽지 않는다.
+ * - 기동 시 적재하고 RELOAD_INTERVAL_MINUTES 마다 새 스냅샷을 만들어 통째로 교체한다. (읽는 쪽은 락 없음)
+ * - 스냅샷에 없는 룰을 찾으면 새로 추가된 챌린지일 수 있으므로 한 번 다시 적재해 본다.
+ *   (존재하지 않는 룰 요청이 DB 를 두드리지 않도록 MIN_RELOAD_GAP_MILLIS 안에는 다시 읽지 않음)
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ChallengeRuleResolver {
+    private static final long RELOAD_INTERVAL_MINUTES = 5;
+    private static final long MIN_RELOAD_GAP_MILLIS = 10_000;
+
     private final ChallengeRuleMapper challengeRuleMapper;
 
+    private volatile Map<Long, Map<DifficultyCode, ChallengeRule>> rules;
+    private volatile long lastReloadMillis;
+
     /**
      * 최소 성공 일수를 조회한다.
      *
@@ -25,16 +47,7 @@ public class ChallengeRuleResolver {
      * @return 최소 성공 일수
      */
     public int resolveRequiredSuccessDays(Challenge challenge, DifficultyCode difficultyCode) {
-        ChallengeRule rule = challengeRuleMapper.findByChallengeIdAndDifficulty(
-                challenge.getId(),
-                difficultyCode.getCode()
-        );
-        if (rule == null) {
-            // TODO: 공통 예외로 교체
-            throw new IllegalStateException("챌린지 룰이 설정되지 않았습니다. challengeId="
-                    + challenge.getId() + ", difficulty=" + difficultyCode.getCode());
-        }
-        return rule.getRequiredSuccessDays();
+        return findRule(challenge, difficultyCode).getRequiredSuccessDays();
     }
 
     /**
@@ -51,18 +64,7 @@ public class ChallengeRuleResolver {
             return null;
         }
 
-        ChallengeRule rule = challengeRuleMapper.findByChallengeIdAndDifficulty(
-                challenge.getId(),
-                difficultyCode.getCode()
-        );
-
-        if (rule == null) {
-            // TODO: 공통 예외로 교체
-            throw new IllegalStateException("챌린지 룰이 설정되지 않았습니다. challengeId="
-                    + challenge.getId() + ", difficulty=" + difficultyCode.getCode());
-        }
-
-        Double value = rule.getDailyTargetValue();
+        Double value = findRule(challenge, difficultyCode).getDailyTargetValue();
         if (value == null) {
             // PROTEIN_PER_DAY, EXERCISE_MINUTES_PER_DAY 등인데 값이 없으면 설정 누락으로 간주
             throw new IllegalStateException("하루 목표값이 설정되지 않았습니다. challengeId="
@@ -71,4 +73,52 @@ public class ChallengeRuleResolver {
         }
         return value;
     }
+
+    /**
+     * challenge_rules 전체를 다시 읽어 스냅샷을 교체한다.
+     * 룰을 바꾼 뒤 즉시 반영이 필요하면 직접 호출한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = RELOAD_INTERVAL_MINUTES, initialDelay = RELOAD_INTERVAL_MINUTES, timeUnit = TimeUnit.MINUTES)
+    public void reload() {
+        Map<Long, Map<DifficultyCode, ChallengeRule>> loaded = new HashMap<>();
+        for (ChallengeRule rule : challengeRuleMapper.findAll()) {
+            DifficultyCode difficultyCode;
+            try {
+                difficultyCode = DifficultyCode.from(rule.getDifficultyCode());
+            } catch (IllegalArgumentException e) {
+                log.warn("알 수 없는 난이도의 챌린지 룰을 건너뜁니다. challengeId={}, difficulty={}",
+                        rule.getChallengeId(), rule.getDifficultyCode());
+                continue;
+            }
+            loaded.computeIfAbsent(rule.getChallengeId(), id -> new EnumMap<>(DifficultyCode.class))
+                    .put(difficultyCode, rule);
+        }
+        loaded.replaceAll((challengeId, byDifficulty) -> Collections.unmodifiableMap(byDifficulty));
+
+        this.rules = Collections.unmodifiableMap(loaded);
+        this.lastReloadMillis = System.currentTimeMillis();
+    }
+
+    private ChallengeRule findRule(Challenge challenge, DifficultyCode difficultyCode) {
+        if (rules == null) {
+            reload();
+        }
+        ChallengeRule rule = lookup(challenge.getId(), difficultyCode);
+        if (rule == null && System.currentTimeMillis() - lastReloadMillis >= MIN_RELOAD_GAP_MILLIS) {
+            reload();
+            rule = lookup(challenge.getId(), difficultyCode);
+        }
+        if (rule == null) {
+            // TODO: 공통 예외로 교체
+            throw new IllegalStateException("챌린지 룰이 설정되지 않았습니다. challengeId="
+                    + challenge.getId() + ", difficulty=" + difficultyCode.getCode());
+        }
+        return rule;
+    }
+
+    private ChallengeRule lookup(Long challengeId, DifficultyCode difficultyCode) {
+        Map<DifficultyCode, ChallengeRule> byDifficulty = rules.get(challengeId);
+        return byDifficulty != null ? byDifficulty.get(difficultyCode) : null;
+    }
 }
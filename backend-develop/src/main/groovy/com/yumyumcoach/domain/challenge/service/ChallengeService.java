@@ -1,8 +1,11 @@
 package com.yumyumcoach.domain.challenge.service;
 
+import com.yumyumcoach.domain.challenge.cache.ChallengeCatalog;
+import com.yumyumcoach.domain.challenge.cache.ChallengeCatalogCache;
 import com.yumyumcoach.domain.challenge.dto.*;
 import com.yumyumcoach.domain.challenge.entity.Challenge;
 import com.yumyumcoach.domain.challenge.entity.ChallengeParticipant;
+import com.yumyumcoach.domain.challenge.event.ChallengeParticipationEvent;
 import com.yumyumcoach.domain.challenge.mapper.ChallengeMapper;
 import com.yumyumcoach.domain.challenge.mapper.ChallengeParticipantMapper;
 import com.yumyumcoach.domain.challenge.model.DifficultyCode;
@@ -10,6 +13,7 @@ import com.yumyumcoach.domain.challenge.model.GoalType;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +21,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 공용 챌린지 도메인 서비스.
@@ -29,24 +36,38 @@ public class ChallengeService {
     private final ChallengeMapper challengeMapper;
     private final ChallengeParticipantMapper challengeParticipantMapper;
     private final ChallengeRuleResolver challengeRuleResolver;
+    private final ChallengeCatalogCache challengeCatalogCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 월 기준 챌린지 목록을 조회한다.
+     * - 챌린지 목록과 참여 인원 수는 모든 사용자가 공유하는 월별 카탈로그 캐시에서 가져오고,
+     *   사용자별 참여 정보만 PK 로 한 번 조회해서 덧씌운다.
      *
      * @param month yyyy-MM 형식의 조회 기준 월
      * @param email 현재 로그인한 사용자 이메일
      */
     public ChallengeListResponse getChallenges(String month, String email) {
-        YearMonth yearMonth = YearMonth.parse(month);
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
+        ChallengeCatalog catalog = challengeCatalogCache.get(YearMonth.parse(month));
 
-        // 이번 달(월말인 경우 다음 달 포함) 챌린지 조회
-        List<Challenge> challenges = challengeMapper.findByPeriod(startDate, endDate);
+        List<ChallengeResponse> challengeResponses = List.of();
+        if (!catalog.challenges().isEmpty()) {
+            List<Long> challengeIds = catalog.challenges().stream()
+                    .map(Challenge::getId)
+                    .toList();
 
-        List<ChallengeResponse> challengeResponses = challenges.stream()
-                .map(challenge -> toChallengeResponseForList(challenge, email))
-                .toList();
+            Map<Long, ChallengeParticipant> participantsByChallengeId = challengeParticipantMapper
+                    .findByChallengeIdsAndEmail(challengeIds, email).stream()
+                    .collect(Collectors.toMap(ChallengeParticipant::getChallengeId, Function.identity()));
+
+            challengeResponses = catalog.challenges().stream()
+                    .map(challenge -> toChallengeResponseForList(
+                            challenge,
+                            participantsByChallengeId.get(challenge.getId()),
+                            catalog.participantsCount(challenge.getId())
+                    ))
+                    .toList();
+        }
 
         return ChallengeListResponse.builder()
                 .month(month)
@@ -110,6 +131,7 @@ public class ChallengeService {
 
         // 6) DB에 저장
         challengeParticipantMapper.insert(participant);
+        eventPublisher.publishEvent(ChallengeParticipationEvent.joined(challenge));
 
         LocalDate myStartDate = challenge.getStartDate();
         LocalDate myEndDate = challenge.getEndDate();
@@ -159,6 +181,7 @@ public class ChallengeService {
         LocalDateTime leftAt = LocalDateTime.now();
         if (isBeforeStart) {
             challengeParticipantMapper.deleteByChallengeIdAndEmail(challengeId, email);
+            eventPublisher.publishEvent(ChallengeParticipationEvent.cancelled(challenge));
         } else {
             existing.leave(leftAt);
             challengeParticipantMapper.updateStatus(challengeId, email, "left", leftAt);
@@ -175,13 +198,13 @@ public class ChallengeService {
     /**
      * 목록 조회용 ChallengeResponse 변환.
      * - ruleDescription 등 상세 화면에서만 필요한 값은 null 로 둔다.
+     *
+     * @param participant       현재 사용자의 참여 정보 (없으면 null)
+     * @param participantsCount 챌린지 참여 인원 수
      */
-    private ChallengeResponse toChallengeResponseForList(Challenge challenge, String email) {
-        ChallengeParticipant participant =
-                challengeParticipantMapper.findByChallengeIdAndEmail(challenge.getId(), email);
-
-        int participantsCount = challengeParticipantMapper.countByChallengeId(challenge.getId());
-
+    private ChallengeResponse toChallengeResponseForList(Challenge challenge,
+                                                         ChallengeParticipant participant,
+                                                         int participantsCount) {
         Integer successDays = null;
         Double progressPercentage = null;
         String selectedDifficulty = null;
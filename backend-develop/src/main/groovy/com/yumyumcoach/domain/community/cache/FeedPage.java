@@ -0,0 +1,26 @@
+package com.yumyumcoach.domain.community.cache;
+
+import com.yumyumcoach.domain.community.dto.PostResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 피드 한 페이지 중 사용자와 무관한 부분.
+ * - posts 의 isLikedByMe 는 항상 false 이고, 응답 직전에 로그인 사용자 기준으로 덮어쓴다.
+ */
+@Getter
+@AllArgsConstructor
+public class FeedPage {
+
+    /**
+     * 게시글 목록 (이미지/댓글 수/좋아요 수 포함)
+     */
+    private final List<PostResponse> posts;
+
+    /**
+     * 다음 페이지 커서 (없으면 null)
+     */
+    private final String nextCursor;
+}
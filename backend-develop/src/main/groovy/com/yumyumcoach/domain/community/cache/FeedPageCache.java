@@ -0,0 +1,163 @@
+package com.yumyumcoach.domain.community.cache;
+
+import com.yumyumcoach.domain.community.counter.LikeCountsFlushedEvent;
+import com.yumyumcoach.domain.community.dto.PostResponse;
+import com.yumyumcoach.domain.community.event.CommentEvent;
+import com.yumyumcoach.domain.community.event.PostEvent;
+import com.yumyumcoach.global.cache.BoundedCache;
+import com.yumyumcoach.global.cache.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최신순 피드(키워드 없음) 페이지 캐시.
+ * - page 모드는 앞쪽 MAX_CACHED_PAGE 페이지까지, cursor 모드는 커서마다 캐시한다.
+ * - 게시글 ID → 그 게시글이 들어 있는 캐시 키 역색인을 두고, 변경된 게시글이 포함된 페이지만 무효화한다.
+ *   - 작성 : 모든 page 모드 페이지(한 칸씩 밀림)
+ *   - 수정 / 댓글 / 좋아요 수 반영(LikeCounter flush) : 그 게시글이 포함된 페이지
+ *   - 삭제 : 그 게시글이 포함된 페이지 + 모든 page 모드 페이지
+ *   - cursor 모드 페이지는 (created_at, id) 기준이라 새 글이 생겨도 내용이 바뀌지 않는다.
+ * - 무효화는 커밋 이후에 일어나므로, 그 전에 DB 를 읽기 시작한 요청이 옛 값을 다시 넣지 않도록
+ *   무효화마다 epoch 를 올리고 읽기 시작 시점의 epoch 와 다르면 저장하지 않는다.
+ */
+@Slf4j
+@Component
+public class FeedPageCache {
+    public static final int MAX_CACHED_PAGE = 5;
+
+    private static final long MAX_CACHED_POSTS = 2_000;
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final BoundedCache<Key, FeedPage> pages;
+    private final ConcurrentHashMap<Long, Set<Key>> keysByPostId = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    public FeedPageCache() {
+        this.pages = new BoundedCache<>(
+                MAX_CACHED_POSTS,
+                TTL,
+                (key, page) -> page.getPosts().size() + 1,
+                this::onRemoved
+        );
+    }
+
+    /**
+     * 캐시 키. page 모드면 cursor 가 null, cursor 모드면 page 가 0
+     */
+    public record Key(int page, String cursor, int size) {
+
+        /**
+         * 캐시 대상이 아니면 null (page 모드의 뒤쪽 페이지)
+         */
+        public static Key of(int page, String cursor, int size) {
+            if (cursor != null && !cursor.isBlank()) {
+                return new Key(0, cursor, size);
+            }
+            return page <= MAX_CACHED_PAGE ? new Key(page, null, size) : null;
+        }
+
+        boolean isPageMode() {
+            return cursor == null;
+        }
+    }
+
+    /**
+     * 현재 epoch. DB 에서 읽기 시작하기 전에 받아 두었다가 put 할 때 넘긴다.
+     */
+    public long epoch() {
+        return epoch.get();
+    }
+
+    public FeedPage get(Key key) {
+        return pages.get(key);
+    }
+
+    /**
+     * 페이지를 저장한다. readEpoch 이후 무효화가 있었으면 저장하지 않는다.
+     */
+    public void put(Key key, FeedPage page, long readEpoch) {
+        if (epoch.get() != readEpoch) {
+            return;
+        }
+        // 같은 키의 이전 값이 빠지면서 역색인을 지우므로, 저장한 다음에 역색인을 추가한다.
+        pages.put(key, page);
+        for (PostResponse post : page.getPosts()) {
+            keysByPostId.computeIfAbsent(post.getPostId(), id -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+
+        // 저장하는 사이에 무효화가 끼어들었으면 방금 넣은 값을 버린다.
+        if (epoch.get() != readEpoch) {
+            pages.invalidate(key);
+        }
+    }
+
+    public CacheStats stats() {
+        return pages.stats();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostEvent(PostEvent event) {
+        switch (event.getType()) {
+            case CREATED -> invalidatePageMode();
+            case UPDATED -> invalidatePost(event.getPostId());
+            case DELETED -> {
+                invalidatePost(event.getPostId());
+                invalidatePageMode();
+            }
+        }
+    }
+
+    /**
+     * 좋아요 수는 응답 시 LikeCounter 의 대기 증감을 더해서 내려주므로, 개별 좋아요마다 무효화하지 않고
+     * posts.likes 에 실제로 반영된 시점에만 무효화한다.
+     */
+    @EventListener
+    public void onLikeCountsFlushed(LikeCountsFlushedEvent event) {
+        event.getPostIds().forEach(this::invalidatePost);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentEvent(CommentEvent event) {
+        invalidatePost(event.getPostId());
+    }
+
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void logStats() {
+        log.info("피드 캐시 : {}", pages.stats());
+    }
+
+    private void invalidatePost(Long postId) {
+        epoch.incrementAndGet();
+        Set<Key> keys = keysByPostId.remove(postId);
+        if (keys != null) {
+            keys.forEach(pages::invalidate);
+        }
+    }
+
+    private void invalidatePageMode() {
+        epoch.incrementAndGet();
+        pages.invalidateIf(Key::isPageMode);
+    }
+
+    /**
+     * 캐시에서 빠진 페이지를 역색인에서도 지운다.
+     */
+    private void onRemoved(Key key, FeedPage page) {
+        for (PostResponse post : page.getPosts()) {
+            keysByPostId.computeIfPresent(post.getPostId(), (id, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.yumyumcoach.domain.community.cache;
+
+import com.yumyumcoach.domain.community.event.PostLikeEvent;
+import com.yumyumcoach.domain.community.mapper.PostLikeMapper;
+import com.yumyumcoach.global.cache.BoundedCache;
+import com.yumyumcoach.global.cache.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 "좋아요 누른 게시글 ID" 캐시 (isLikedByMe 계산용).
+ * - 값은 정렬된 long[] 이라 박싱 없이 게시글 하나당 8바이트, 조회는 이진 탐색.
+ * - 처음 조회할 때 post_likes 의 (email, created_at) 인덱스로 그 사용자의 좋아요를 한 번에 읽어 온다.
+ * - 좋아요/취소가 커밋되면 캐시된 배열을 복사해서 바꾼 새 배열로 교체한다. (읽는 쪽은 락 없음)
+ * - 메모리 예산(MAX_BYTES)을 넘으면 가장 오래 사용되지 않은 사용자부터 제거한다.
+ * - 읽어 오는 도중 그 사용자의 좋아요가 바뀌면 읽은 값을 저장하지 않는다.
+ *   (이메일 해시로 나눈 버전 슬롯을 읽기 전후로 비교)
+ */
+@Slf4j
+@Component
+public class LikedPostsCache {
+    private static final long MAX_BYTES = 32L * 1024 * 1024;
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    private static final int VERSION_SLOTS = 1024;
+
+    private final PostLikeMapper postLikeMapper;
+    private final BoundedCache<String, long[]> cache;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS);
+
+    /**
+     * 같은 사용자의 좋아요 이벤트끼리 배열 교체가 겹치지 않도록 슬롯별 락
+     */
+    private final Object[] updateLocks = new Object[VERSION_SLOTS];
+
+    public LikedPostsCache(PostLikeMapper postLikeMapper) {
+        this.postLikeMapper = postLikeMapper;
+        this.cache = new BoundedCache<>(
+                MAX_BYTES,
+                TTL,
+                (email, postIds) -> ENTRY_OVERHEAD_BYTES + email.length() * 2 + postIds.length * Long.BYTES,
+                null
+        );
+        for (int i = 0; i < VERSION_SLOTS; i++) {
+            updateLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * 주어진 게시글 중 사용자가 좋아요 누른 게시글 ID
+     */
+    public Set<Long> findLikedAmong(String email, List<Long> postIds) {
+        long[] liked = getOrLoad(email);
+        Set<Long> result = new HashSet<>();
+        for (Long postId : postIds) {
+            if (Arrays.binarySearch(liked, postId) >= 0) {
+                result.add(postId);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자가 게시글에 좋아요를 눌렀는지
+     */
+    public boolean isLiked(String email, Long postId) {
+        return Arrays.binarySearch(getOrLoad(email), postId) >= 0;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostLikeEvent(PostLikeEvent event) {
+        String email = event.getEmail();
+        int slot = slot(email);
+        versions.incrementAndGet(slot);
+
+        synchronized (updateLocks[slot]) {
+            long[] current = cache.get(email);
+            if (current == null) {
+                return;
+            }
+            long[] changed = event.isLiked()
+                    ? withPostId(current, event.getPostId())
+                    : withoutPostId(current, event.getPostId());
+            if (changed != current) {
+                cache.put(email, changed);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void logStats() {
+        log.info("좋아요 게시글 캐시 : {}", cache.stats());
+    }
+
+    private long[] getOrLoad(String email) {
+        long[] liked = cache.get(email);
+        if (liked != null) {
+            return liked;
+        }
+
+        int slot = slot(email);
+        long readVersion = versions.get(slot);
+        liked = postLikeMapper.findPostIdsByEmail(email).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        if (versions.get(slot) == readVersion) {
+            cache.put(email, liked);
+            // 저장하는 사이에 바뀌었으면 방금 넣은 값을 버린다.
+            if (versions.get(slot) != readVersion) {
+                cache.invalidate(email);
+            }
+        }
+        return liked;
+    }
+
+    private static int slot(String email) {
+        return (email.hashCode() & 0x7fffffff) % VERSION_SLOTS;
+    }
+
+    /**
+     * postId 를 정렬 순서에 맞게 끼워 넣은 새 배열 (이미 있으면 그대로)
+     */
+    private static long[] withPostId(long[] postIds, long postId) {
+        int index = Arrays.binarySearch(postIds, postId);
+        if (index >= 0) {
+            return postIds;
+        }
+        int insertAt = -index - 1;
+        long[] changed = new long[postIds.length + 1];
+        System.arraycopy(postIds, 0, changed, 0, insertAt);
+        changed[insertAt] = postId;
+        System.arraycopy(postIds, insertAt, changed, insertAt + 1, postIds.length - insertAt);
+        return changed;
+    }
+
+    /**
+     * postId 를 뺀 새 배열 (없으면 그대로)
+     */
+    private static long[] withoutPostId(long[] postIds, long postId) {
+        int index = Arrays.binarySearch(postIds, postId);
+        if (index < 0) {
+            return postIds;
+        }
+        long[] changed = new long[postIds.length - 1];
+        System.arraycopy(postIds, 0, changed, 0, index);
+        System.arraycopy(postIds, index + 1, changed, index, postIds.length - index - 1);
+        return changed;
+    }
+}
@@ -2,6 +2,7 @@ package com.yumyumcoach.domain.community.controller;
 
 import com.yumyumcoach.domain.community.dto.CommentRequest;
 import com.yumyumcoach.domain.community.dto.CommentResponse;
+import com.yumyumcoach.domain.community.dto.GetCommentsRequest;
 import com.yumyumcoach.domain.community.dto.GetCommentsResponse;
 import com.yumyumcoach.domain.community.service.CommentService;
 import com.yumyumcoach.global.common.CurrentUser;
@@ -9,6 +10,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Community 댓글 관련 컨트롤러.
@@ -20,11 +22,16 @@ import org.springframework.web.bind.annotation.*;
 public class CommentController {
     private final CommentService commentService;
 
-    // 특정 게시글의 댓글 목록 조회
+    // 특정 게시글의 댓글 목록 조회 (If-None-Match 가 현재 ETag 와 같으면 본문 없이 304)
     @GetMapping
-    public GetCommentsResponse getComments(@PathVariable("postId") Long postId) {
+    public GetCommentsResponse getComments(@PathVariable("postId") Long postId, GetCommentsRequest request,
+                                           WebRequest webRequest) {
         String email = CurrentUser.email();
-        return commentService.getComments(postId);
+        String etag = commentService.getCommentsETag(postId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return commentService.getComments(postId, request);
     }
 
     // 댓글 작성
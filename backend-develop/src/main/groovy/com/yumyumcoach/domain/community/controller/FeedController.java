@@ -0,0 +1,28 @@
+package com.yumyumcoach.domain.community.controller;
+
+import com.yumyumcoach.domain.community.dto.GetFollowingFeedRequest;
+import com.yumyumcoach.domain.community.dto.GetPostsResponse;
+import com.yumyumcoach.domain.community.service.PostService;
+import com.yumyumcoach.global.common.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Community 피드 관련 컨트롤러.
+ * - /api/feed 하위 엔드포인트 담당
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/feed")
+public class FeedController {
+    private final PostService postService;
+
+    // 팔로잉 피드 조회
+    @GetMapping("/following")
+    public GetPostsResponse getFollowingFeed(GetFollowingFeedRequest request) {
+        String email = CurrentUser.email();
+        return postService.getFollowingFeed(request, email);
+    }
+}
@@ -8,8 +8,12 @@ import com.yumyumcoach.domain.community.service.PostService;
 import com.yumyumcoach.global.common.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Community 게시글 관련 컨트롤러.
@@ -28,11 +32,24 @@ public class PostController {
         return postService.getPosts(request, email);
     }
 
-    // 게시글 상세 조회
+    // 게시글 상세 조회 (If-None-Match 가 현재 ETag 와 같으면 본문 없이 304)
+    // - If-None-Match 가 있는 재요청(이미 본 게시글 다시 확인)은 조회수에 넣지 않는다.
     @GetMapping("/{postId}")
-    public PostResponse getPost(@PathVariable("postId") Long postId) {
+    public PostResponse getPost(@PathVariable("postId") Long postId, WebRequest webRequest) {
         String email = CurrentUser.email();
-        return postService.getPost(postId, email);
+        String etag = postService.getPostETag(postId, email);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        boolean revalidation = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+        return postService.getPost(postId, email, !revalidation);
+    }
+
+    // 게시글 실시간 이벤트 구독 (댓글 작성/삭제, 좋아요)
+    @GetMapping(value = "/{postId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable("postId") Long postId) {
+        String email = CurrentUser.email();
+        return postService.subscribe(postId);
     }
 
     // 게시글 작성
@@ -0,0 +1,200 @@
+package com.yumyumcoach.domain.community.counter;
+
+import com.yumyumcoach.domain.community.event.PostLikeEvent;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * 게시글 좋아요 수(posts.likes) 쓰기 모으기.
+ * - 좋아요/취소마다 posts 행을 UPDATE 하면 인기 게시글 한 행의 락에 요청이 줄을 선다.
+ * - 대신 게시글별 LongAdder(내부적으로 스트라이프된 셀)에 증감을 모아 두고,
+ *   FLUSH_INTERVAL_MILLIS 마다 모인 증감을 UPDATE 한 번(CASE)으로 반영한다. 종료 시에도 한 번 반영한다.
+ * - post_likes 행은 요청 트랜잭션에서 그대로 INSERT/DELETE 되므로 "누가 눌렀는지"의 기준은 post_likes 이다.
+ * - 조회 시 pendingDelta() 를 DB 값에 더하면 아직 반영되지 않은 증감까지 포함한 좋아요 수가 된다.
+ *   (flush 가 DB 에 커밋한 직후 ~ 반영 중 목록에서 빠지기 전까지 아주 짧게 중복/누락될 수 있다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCounter {
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+    /**
+     * 이 횟수만큼 연속으로 증감이 없던 게시글의 카운터는 맵에서 제거한다.
+     */
+    private static final int IDLE_FLUSHES_BEFORE_EVICT = 60;
+
+    private final PostMapper postMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 아직 반영 대기 중인 증감 (게시글 ID → 카운터)
+     */
+    private final ConcurrentHashMap<Long, Counter> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 반영 중(UPDATE 실행 중)인 증감. 그동안 조회에서도 보이도록 따로 둔다.
+     */
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 좋아요 / 취소가 커밋되면 증감을 모은다. (롤백된 요청은 반영되지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostLikeEvent(PostLikeEvent event) {
+        add(event.getPostId(), event.delta());
+    }
+
+    /**
+     * 게시글 좋아요 수 증감을 모은다.
+     */
+    public void add(Long postId, long delta) {
+        while (true) {
+            Counter counter = pending.computeIfAbsent(postId, id -> new Counter());
+            if (counter.tryAdd(delta)) {
+                return;
+            }
+            // flush 가 막 제거한 카운터 : 새 카운터로 다시 시도
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 좋아요 수 증감
+     */
+    public long pendingDelta(Long postId) {
+        Counter counter = pending.get(postId);
+        long delta = counter != null ? counter.adder.sum() : 0;
+        return delta + inFlight.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 모인 증감을 DB 에 반영한다.
+     * - 실패하면 증감을 다시 대기열로 돌려놓고 다음 주기에 재시도한다.
+     */
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        Iterator<Map.Entry<Long, Counter>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Counter> entry = it.next();
+            Counter counter = entry.getValue();
+            // sumThenReset 은 셀 단위로 원자적으로 비우므로 그 사이에 들어온 증감은 다음 주기로 넘어간다.
+            long delta = counter.adder.sumThenReset();
+            if (delta != 0) {
+                counter.idleFlushes = 0;
+                inFlight.merge(entry.getKey(), delta, Long::sum);
+                deltas.put(entry.getKey(), delta);
+            } else if (++counter.idleFlushes >= IDLE_FLUSHES_BEFORE_EVICT) {
+                // 오래 조용했던 카운터 제거. 제거 직전에 들어온 증감은 새 카운터로 옮긴다.
+                it.remove();
+                long late = counter.retire();
+                if (late != 0) {
+                    add(entry.getKey(), late);
+                }
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            postMapper.applyLikeDeltas(deltas);
+        } catch (RuntimeException e) {
+            log.warn("좋아요 수 반영 실패 ({}건), 다음 주기에 재시도합니다.", deltas.size(), e);
+            deltas.forEach(this::add);
+            return;
+        } finally {
+            deltas.forEach((postId, delta) -> inFlight.computeIfPresent(postId, (id, value) -> {
+                long remaining = value - delta;
+                return remaining == 0 ? null : remaining;
+            }));
+        }
+        eventPublisher.publishEvent(new LikeCountsFlushedEvent(deltas.keySet()));
+    }
+
+    /**
+     * 좋아요 수 보정(PostCountReconciler)을 flush 와 겹치지 않게 실행한다.
+     * - 먼저 모인 증감을 반영하고, 그 뒤에도 반영 대기 중인 증감이 있는 게시글은 보정에서 빼도록 넘긴다.
+     *   (보정이 post_likes 개수로 맞춘 뒤 flush 가 같은 증감을 다시 더하면 이중 반영된다)
+     *
+     * @param reconciler 보정에서 뺄 게시글 ID 를 받아 보정된 행 수를 돌려준다.
+     */
+    public synchronized int reconcile(ToIntFunction<Set<Long>> reconciler) {
+        flush();
+        Set<Long> busy = new HashSet<>(inFlight.keySet());
+        pending.forEach((postId, counter) -> {
+            if (counter.adder.sum() != 0) {
+                busy.add(postId);
+            }
+        });
+        return reconciler.applyAsInt(busy);
+    }
+
+    /**
+     * 종료 시 남은 증감 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 게시글 하나의 증감 카운터.
+     * - 제거(retire)와 동시에 들어온 증감이 사라지지 않도록, 더하는 쪽은 activeWriters 를 올린 뒤 retired 를 확인하고
+     *   제거하는 쪽은 retired 를 세운 뒤 activeWriters 가 0 이 될 때까지 기다렸다가 마지막 합을 가져간다.
+     *   (둘 중 하나는 반드시 상대를 보게 되므로, 증감은 "더해지고 마지막 합에 포함"되거나 "더해지지 않고 재시도"된다)
+     */
+    private static final class Counter {
+        final LongAdder adder = new LongAdder();
+        final LongAdder activeWriters = new LongAdder();
+        volatile boolean retired;
+
+        /**
+         * flush 스레드에서만 읽고 쓴다.
+         */
+        int idleFlushes;
+
+        /**
+         * @return 제거된 카운터라서 더하지 못했으면 false
+         */
+        boolean tryAdd(long delta) {
+            activeWriters.increment();
+            try {
+                if (retired) {
+                    return false;
+                }
+                adder.add(delta);
+                return true;
+            } finally {
+                activeWriters.decrement();
+            }
+        }
+
+        /**
+         * 카운터를 닫고 남은 증감을 가져간다.
+         */
+        long retire() {
+            retired = true;
+            while (activeWriters.sum() != 0) {
+                Thread.onSpinWait();
+            }
+            return adder.sumThenReset();
+        }
+    }
+}
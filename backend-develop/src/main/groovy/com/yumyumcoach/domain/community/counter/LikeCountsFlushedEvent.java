@@ -0,0 +1,23 @@
+package com.yumyumcoach.domain.community.counter;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * LikeCounter 가 모아 둔 좋아요 수 증감을 posts.likes 에 반영한 직후 발행하는 이벤트.
+ * - posts 행의 likes 값을 들고 있는 캐시는 이 게시글들을 무효화해야 한다.
+ */
+@Getter
+public class LikeCountsFlushedEvent {
+
+    /**
+     * likes 가 바뀐 게시글 ID
+     */
+    private final Set<Long> postIds;
+
+    public LikeCountsFlushedEvent(Collection<Long> postIds) {
+        this.postIds = Set.copyOf(postIds);
+    }
+}
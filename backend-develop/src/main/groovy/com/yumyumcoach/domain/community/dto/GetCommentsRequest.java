@@ -0,0 +1,31 @@
+package com.yumyumcoach.domain.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 특정 게시글의 댓글 목록 조회 요청 DTO.
+ * - GET /api/posts/{postId}/comments
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetCommentsRequest {
+    /**
+     * 한 번에 가져올 댓글 수 (기본값 20, 최대 100)
+     */
+    @Builder.Default
+    private int size = 20;
+
+    /**
+     * 커서 (더보기용)
+     * - 이전 응답의 nextCursor 값을 그대로 전달
+     * - 값이 없으면 가장 오래된 댓글부터 조회
+     */
+    private String cursor;
+}
@@ -23,10 +23,15 @@ public class GetCommentsResponse {
     private Long postId;
 
     /**
-     * 해당 게시글에 달린 전체 댓글 개수
+     * 해당 게시글에 달린 전체 댓글 개수 (posts.comment_count)
      */
     private long totalCount;
 
+    /**
+     * 다음 댓글 조회용 커서 (더 이상 없으면 null)
+     */
+    private String nextCursor;
+
     /**
      * 댓글 목록
      */
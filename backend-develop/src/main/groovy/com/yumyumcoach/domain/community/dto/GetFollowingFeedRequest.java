@@ -0,0 +1,31 @@
+package com.yumyumcoach.domain.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 팔로잉 피드 조회 요청 DTO.
+ * - GET /api/feed/following
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GetFollowingFeedRequest {
+    /**
+     * 페이지 사이즈 (기본값 20, 최대 100)
+     */
+    @Builder.Default
+    private int size = 20;
+
+    /**
+     * 커서 (무한 스크롤용)
+     * - 이전 응답의 nextCursor 값을 그대로 전달
+     * - 값이 없으면 가장 최신 게시글부터 조회
+     */
+    private String cursor;
+}
@@ -4,12 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 /**
  * 전체 게시글 목록 조회 요청 DTO.
  * - GET /api/posts
  */
 @Getter
+@Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,16 +29,32 @@ public class GetPostsRequest {
     private int size = 20;
 
     /**
-     * [TODO] 검색 키워드
-     * - 현재는 사용하지 않음
-     * - 추후 제목/내용 검색 기능 추가 시 활용 예정
+     * 커서 (무한 스크롤용)
+     * - 이전 응답의 nextCursor 값을 그대로 전달
+     * - 값이 있으면 page 는 무시하고 커서 이후의 게시글을 조회 (깊은 페이지도 첫 페이지와 같은 비용)
+     * - 값이 없으면 기존처럼 page/size 기반으로 조회
+     */
+    private String cursor;
+
+    /**
+     * 검색 키워드
+     * - 제목/내용 대상 FULLTEXT(ngram) 검색, 공백으로 구분된 단어는 모두 포함되어야 함
+     * - page 모드에서는 관련도 순, 커서 모드에서는 최신순으로 정렬
      */
     private String keyword;
 
     /**
-     * [TODO] 정렬 기준
-     * - 예: "LATEST", "POPULAR"
-     * - 현재는 사용하지 않음
+     * 정렬 기준
+     * - "LATEST"(기본값) : 최신순
+     * - "POPULAR" : 인기순 (좋아요/댓글 수와 작성 시각을 함께 반영한 점수, 최근 30일 게시글 대상)
+     * - 키워드 검색(관련도 순)과 커서 모드(최신순)에서는 무시
      */
     private String sort;
+
+    /**
+     * 전체 개수(totalCount) 포함 여부 (기본값 true)
+     * - 무한 스크롤(cursor) 클라이언트처럼 개수가 필요 없으면 false 로 보내 개수 계산을 생략
+     */
+    @Builder.Default
+    private boolean withTotal = true;
 }
@@ -9,7 +9,7 @@ import java.util.List;
 
 /**
  * 전체 게시글 목록 조회(피드) 응답 DTO.
- * - 페이징 정보(page, size, totalCount)
+ * - 페이징 정보(page, size, totalCount, nextCursor)
  * - 현재 페이지에 포함된 게시글 목록(posts)
  */
 @Getter
@@ -19,6 +19,7 @@ import java.util.List;
 public class GetPostsResponse {
     /**
      * 현재 페이지 번호 (1부터 시작)
+     * - 커서 기반 조회에서는 0
      */
     private int page;
 
@@ -28,9 +29,17 @@ public class GetPostsResponse {
     private int size;
 
     /**
-     * 전체 게시글 개수
+     * 전체 게시글 개수 (키워드가 있으면 검색 결과 개수)
+     * - 요청의 withTotal 이 false 이면 null
      */
-    private long totalCount;
+    private Long totalCount;
+
+    /**
+     * 다음 페이지 조회용 커서
+     * - 다음 요청의 cursor 파라미터로 그대로 전달
+     * - 더 이상 게시글이 없으면 null
+     */
+    private String nextCursor;
 
     /**
      * 현재 페이지에 포함된 게시글 목록
@@ -0,0 +1,63 @@
+package com.yumyumcoach.domain.community.dto;
+
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 기반 키셋 페이지네이션 커서.
+ * - 클라이언트에는 Base64(URL-safe) 로 인코딩된 불투명 문자열로만 노출한다.
+ * - 마지막으로 받은 행의 (created_at, id) 를 담고, 다음 페이지는 그 이후 행부터 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+    private static final String DELIMITER = "|";
+
+    /**
+     * 마지막 행의 작성 시각
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * 마지막 행의 ID (같은 시각의 행을 구분하는 보조 키)
+     */
+    private final Long id;
+
+    /**
+     * 커서를 클라이언트에 내려줄 문자열로 인코딩한다.
+     */
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 문자열을 해석한다.
+     *
+     * @param encoded encode() 로 만든 문자열
+     * @return 커서, 형식이 올바르지 않으면 400(INVALID_REQUEST)
+     */
+    public static KeysetCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "커서 값이 올바르지 않습니다.");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, delimiterIndex));
+            Long id = Long.parseLong(raw.substring(delimiterIndex + 1));
+            return new KeysetCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "커서 값이 올바르지 않습니다.");
+        }
+    }
+}
@@ -14,7 +14,7 @@ import java.util.List;
  * - 댓글 목록은 별도 API (/api/posts/{postId}/comments) 로 제공
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostResponse {
@@ -68,6 +68,16 @@ public class PostResponse {
      */
     private int commentCount;
 
+    /**
+     * 조회수 (상세 조회 횟수)
+     */
+    private long viewCount;
+
+    /**
+     * 게시글을 조회한 사용자 수 (HyperLogLog 추정값, 오차 약 3%)
+     */
+    private long uniqueViewerCount;
+
     /**
      * 현재 사용자가 이 게시글에 좋아요를 눌렀는지 여부
      */
@@ -18,6 +18,7 @@ public class Post {
 //    private String category;
     private LocalDateTime createdAt;
     private int likes;
+    private int commentCount;
     private String authorEmail;
 
     // 나중에 category 추가시 주석 풀기
@@ -0,0 +1,23 @@
+package com.yumyumcoach.domain.community.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기글 점수 계산에 필요한 게시글 통계.
+ * - 작성 시각, 좋아요 수, 댓글 수
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostStat {
+    private Long postId;
+    private LocalDateTime createdAt;
+    private int likes;
+    private int commentCount;
+}
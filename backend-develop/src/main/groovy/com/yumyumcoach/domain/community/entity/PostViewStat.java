@@ -0,0 +1,21 @@
+package com.yumyumcoach.domain.community.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 조회수 통계 (post_view_stats)
+ * - viewerSketch : 조회한 사용자 이메일의 HyperLogLog 레지스터 (1KB)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostViewStat {
+    private Long postId;
+    private long viewCount;
+    private long uniqueViewerCount;
+    private byte[] viewerSketch;
+}
@@ -0,0 +1,49 @@
+package com.yumyumcoach.domain.community.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 작성/삭제 이벤트.
+ * - CommentService 가 발행하고, 트랜잭션 커밋 이후 인메모리 구조들이 반영한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentEvent {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    /**
+     * 이벤트 종류
+     */
+    private final Type type;
+
+    /**
+     * 댓글이 달린 게시글 ID
+     */
+    private final Long postId;
+
+    /**
+     * 대상 댓글 ID
+     */
+    private final Long commentId;
+
+    public static CommentEvent created(Long postId, Long commentId) {
+        return new CommentEvent(Type.CREATED, postId, commentId);
+    }
+
+    public static CommentEvent deleted(Long postId, Long commentId) {
+        return new CommentEvent(Type.DELETED, postId, commentId);
+    }
+
+    /**
+     * 댓글 수 변화량 (+1 / -1)
+     */
+    public int delta() {
+        return type == Type.CREATED ? 1 : -1;
+    }
+}
@@ -0,0 +1,49 @@
+package com.yumyumcoach.domain.community.event;
+
+import com.yumyumcoach.domain.community.entity.Post;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 작성/수정/삭제 이벤트.
+ * - PostService 가 발행하고, 트랜잭션 커밋 이후(@TransactionalEventListener) 인메모리 구조들이 반영한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * 이벤트 종류
+     */
+    private final Type type;
+
+    /**
+     * 대상 게시글 ID
+     */
+    private final Long postId;
+
+    /**
+     * 작성/수정된 게시글 (id, title, content 포함)
+     * - DELETED 이벤트에서는 null
+     */
+    private final Post post;
+
+    public static PostEvent created(Post post) {
+        return new PostEvent(Type.CREATED, post.getId(), post);
+    }
+
+    public static PostEvent updated(Post post) {
+        return new PostEvent(Type.UPDATED, post.getId(), post);
+    }
+
+    public static PostEvent deleted(Long postId) {
+        return new PostEvent(Type.DELETED, postId, null);
+    }
+}
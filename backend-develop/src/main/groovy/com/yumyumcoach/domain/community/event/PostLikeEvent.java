@@ -0,0 +1,44 @@
+package com.yumyumcoach.domain.community.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 좋아요/좋아요 취소 이벤트.
+ * - PostService 가 발행하고, 트랜잭션 커밋 이후 인메모리 구조들이 반영한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostLikeEvent {
+
+    /**
+     * 대상 게시글 ID
+     */
+    private final Long postId;
+
+    /**
+     * 좋아요를 누른(취소한) 사용자 이메일
+     */
+    private final String email;
+
+    /**
+     * true : 좋아요, false : 좋아요 취소
+     */
+    private final boolean liked;
+
+    public static PostLikeEvent liked(Long postId, String email) {
+        return new PostLikeEvent(postId, email, true);
+    }
+
+    public static PostLikeEvent unliked(Long postId, String email) {
+        return new PostLikeEvent(postId, email, false);
+    }
+
+    /**
+     * 좋아요 수 변화량 (+1 / -1)
+     */
+    public int delta() {
+        return liked ? 1 : -1;
+    }
+}
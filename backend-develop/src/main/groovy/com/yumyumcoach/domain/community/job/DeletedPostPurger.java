@@ -0,0 +1,76 @@
+package com.yumyumcoach.domain.community.job;
+
+import com.yumyumcoach.domain.community.mapper.PostCommentMapper;
+import com.yumyumcoach.domain.community.mapper.PostImageMapper;
+import com.yumyumcoach.domain.community.mapper.PostLikeMapper;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.domain.community.mapper.PostViewStatMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * 삭제 표시(soft delete)된 게시글 정리 작업.
+ * - 게시글마다 좋아요 → 댓글 → 이미지 순으로 CHUNK_SIZE 건씩 DELETE 하고, 조회수 통계를 지운 뒤 마지막에 게시글 행을 지운다.
+ * - DELETE 한 번이 곧 트랜잭션 하나(자동 커밋)라서, 좋아요가 많은 게시글도 락을 오래 잡지 않는다.
+ * - 삭제 직전에 시작된 좋아요/댓글 요청이 끝날 수 있도록 GRACE_PERIOD 가 지난 게시글만 정리한다.
+ * - 중간에 실패하면 다음 주기에 남은 것부터 이어서 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeletedPostPurger {
+    private static final int CHUNK_SIZE = 500;
+    private static final int POSTS_PER_RUN = 100;
+    private static final long GRACE_PERIOD_MINUTES = 1;
+
+    private final PostMapper postMapper;
+    private final PostLikeMapper postLikeMapper;
+    private final PostCommentMapper postCommentMapper;
+    private final PostImageMapper postImageMapper;
+    private final PostViewStatMapper postViewStatMapper;
+
+    /**
+     * 1분마다 (이전 실행이 끝난 뒤부터)
+     */
+    @Scheduled(fixedDelay = 1, initialDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(GRACE_PERIOD_MINUTES);
+        List<Long> postIds = postMapper.findDeletedPostIds(before, POSTS_PER_RUN);
+        int purged = 0;
+        for (Long postId : postIds) {
+            try {
+                purgePost(postId);
+                purged++;
+            } catch (RuntimeException e) {
+                log.warn("삭제된 게시글 정리 실패 (postId={}), 다음 주기에 재시도합니다.", postId, e);
+            }
+        }
+        if (purged > 0) {
+            log.info("삭제된 게시글 정리 완료 : {}건", purged);
+        }
+    }
+
+    private void purgePost(Long postId) {
+        deleteInChunks(id -> postLikeMapper.deleteByPostId(id, CHUNK_SIZE), postId);
+        deleteInChunks(id -> postCommentMapper.deleteByPostId(id, CHUNK_SIZE), postId);
+        deleteInChunks(id -> postImageMapper.deleteByPostId(id, CHUNK_SIZE), postId);
+        postViewStatMapper.deleteByPostId(postId);
+        postMapper.purge(postId);
+    }
+
+    /**
+     * 지운 행 수가 CHUNK_SIZE 보다 작아질 때까지 반복한다.
+     */
+    private static void deleteInChunks(ToIntFunction<Long> deleteChunk, Long postId) {
+        while (deleteChunk.applyAsInt(postId) >= CHUNK_SIZE) {
+            // 다음 청크
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.yumyumcoach.domain.community.job;
+
+import com.yumyumcoach.domain.community.counter.LikeCounter;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 비정규화 카운트 보정 작업.
+ * - posts.comment_count 를 post_comments 실제 개수와 맞춘다.
+ * - posts.likes 를 post_likes 실제 개수와 맞춘다. (LikeCounter 가 메모리에 모아 둔 증감은 비정상 종료 시 사라진다)
+ *   구간마다 LikeCounter 의 flush 와 겹치지 않게 실행하고, 반영 대기 중인 증감이 있는 게시글은 다음 보정으로 미룬다.
+ * - 게시글 ID 구간(CHUNK_SIZE)마다 UPDATE 한 번씩 실행하므로 한 번에 잡는 락 범위가 작다.
+ *   (구간마다 자동 커밋, 작업 전체를 하나의 트랜잭션으로 묶지 않는다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountReconciler {
+    private static final long CHUNK_SIZE = 1000;
+
+    private final PostMapper postMapper;
+    private final LikeCounter likeCounter;
+
+    /**
+     * 매일 새벽 4시 30분
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void reconcile() {
+        long maxId = postMapper.findMaxId();
+        int repairedComments = 0;
+        int repairedLikes = 0;
+        for (long chunkStart = 1; chunkStart <= maxId; chunkStart += CHUNK_SIZE) {
+            long fromId = chunkStart;
+            long toId = chunkStart + CHUNK_SIZE - 1;
+            repairedComments += postMapper.reconcileCommentCounts(fromId, toId);
+            repairedLikes += likeCounter.reconcile(busyPostIds -> postMapper.reconcileLikeCounts(
+                    fromId, toId, busyPostIds.stream().filter(id -> id >= fromId && id <= toId).toList()));
+        }
+        log.info("게시글 카운트 보정 완료 : 댓글 수 {}건, 좋아요 수 {}건 보정 (maxId={})",
+                repairedComments, repairedLikes, maxId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.yumyumcoach.domain.community.job;
+
+import com.yumyumcoach.domain.community.mapper.TimelineMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로잉 피드 항목(timeline_entries) 보관 기간 정리.
+ * - RETENTION_DAYS 보다 오래된 항목을 CHUNK_SIZE 건씩 DELETE 한다. (청크마다 자동 커밋)
+ * - 그보다 오래된 글은 전체 피드에서 볼 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineRetentionJob {
+    private static final int CHUNK_SIZE = 1000;
+    private static final long RETENTION_DAYS = 30;
+
+    private final TimelineMapper timelineMapper;
+
+    /**
+     * 매일 새벽 4시 45분
+     */
+    @Scheduled(cron = "0 45 4 * * *")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(RETENTION_DAYS);
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = timelineMapper.deleteOlderThan(before, CHUNK_SIZE);
+            deleted += chunk;
+        } while (chunk >= CHUNK_SIZE);
+        log.info("팔로잉 피드 항목 정리 완료 : {}건 삭제", deleted);
+    }
+}
@@ -0,0 +1,29 @@
+package com.yumyumcoach.domain.community.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface FollowMapper {
+    /**
+     * 특정 사용자를 팔로우하는 사용자 이메일
+     */
+    List<String> findFollowerEmails(@Param("followeeEmail") String followeeEmail);
+
+    /**
+     * 특정 사용자가 팔로우하는 사용자 이메일
+     */
+    List<String> findFolloweeEmails(@Param("followerEmail") String followerEmail);
+
+    /**
+     * 팔로워 수
+     */
+    long countFollowers(@Param("followeeEmail") String followeeEmail);
+
+    /**
+     * 팔로워가 minFollowers 명 이상인 사용자 이메일
+     */
+    List<String> findFolloweeEmailsWithFollowersAtLeast(@Param("minFollowers") long minFollowers);
+}
@@ -4,12 +4,16 @@ import com.yumyumcoach.domain.community.entity.PostComment;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Mapper
 public interface PostCommentMapper {
 
-    List<PostComment> findByPostId(@Param("postId") Long postId);
+    List<PostComment> findByPostIdAfterCursor(@Param("postId") Long postId,
+                                              @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                              @Param("cursorId") Long cursorId,
+                                              @Param("size") int size);
 
     long countByPostId(@Param("postId") Long postId);
 
@@ -19,9 +23,10 @@ public interface PostCommentMapper {
 
     void update(PostComment comment);
 
-    void delete(@Param("commentId") Long commentId);
+    int delete(@Param("commentId") Long commentId);
 
-    void deleteByPostId(@Param("postId") Long postId);
+    int deleteByPostId(@Param("postId") Long postId,
+                       @Param("limit") int limit);
 
     PostComment findByIdAndPostId(Long commentId, Long postId);
 }
@@ -10,7 +10,13 @@ import java.util.List;
 public interface PostImageMapper {
     List<PostImage> findByPostId(@Param("postId") Long postId);
 
-    void insert(PostImage postImage);
+    List<PostImage> findByPostIds(@Param("postIds") List<Long> postIds);
 
-    void deleteByPostId(@Param("postId") Long postId);
+    void upsertAll(@Param("images") List<PostImage> images);
+
+    int deleteFromOrderIndex(@Param("postId") Long postId,
+                             @Param("fromOrderIndex") int fromOrderIndex);
+
+    int deleteByPostId(@Param("postId") Long postId,
+                       @Param("limit") int limit);
 }
@@ -4,6 +4,8 @@ import com.yumyumcoach.domain.community.entity.PostLike;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 @Mapper
 public interface PostLikeMapper {
     /**
@@ -12,6 +14,11 @@ public interface PostLikeMapper {
     boolean existsByPostIdAndAuthorEmail(@Param("postId") Long postId,
                                          @Param("authorEmail") String authorEmail);
 
+    /**
+     * 특정 유저가 좋아요 누른 게시글 ID 전체 (LikedPostsCache 적재용)
+     */
+    List<Long> findPostIdsByEmail(@Param("authorEmail") String authorEmail);
+
     /**
      * 좋아요 추가
      */
@@ -23,6 +30,12 @@ public interface PostLikeMapper {
     void deleteByPostIdAndAuthorEmail(@Param("postId") Long postId,
                                       @Param("authorEmail") String authorEmail);
 
+    /**
+     * 삭제된 게시글의 좋아요 정리 (한 번에 limit 건까지)
+     */
+    int deleteByPostId(@Param("postId") Long postId,
+                       @Param("limit") int limit);
+
     /**
      * 특정 게시글의 좋아요 개수
      */
@@ -1,29 +1,73 @@
 package com.yumyumcoach.domain.community.mapper;
 
 import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.entity.PostStat;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Mapper
 public interface PostMapper {
     Post findById(@Param("postId") Long postId);
 
+    Long findVersion(@Param("postId") Long postId);
+
     List<Post> findPosts(@Param("offset") int offset,
                          @Param("size") int size,
                          @Param("keyword") String keyword,
                          @Param("sort") String sort);
 
+    List<Post> findPostsByCursor(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                 @Param("cursorId") Long cursorId,
+                                 @Param("size") int size,
+                                 @Param("keyword") String keyword);
+
     long countPosts(@Param("keyword") String keyword);
 
+    List<Post> findByIds(@Param("postIds") List<Long> postIds);
+
+    List<Long> findPostIdsByAuthors(@Param("authorEmails") List<String> authorEmails,
+                                    @Param("beforeId") Long beforeId,
+                                    @Param("limit") int limit);
+
+    List<Post> findPostsForIndex(@Param("afterId") long afterId,
+                                 @Param("limit") int limit);
+
+    List<PostStat> findPostStatsSince(@Param("since") LocalDateTime since);
+
     void insert(Post post);
 
     void update(Post post);
 
-    void delete(@Param("postId") Long postId);
+    int softDelete(@Param("postId") Long postId,
+                   @Param("deletedAt") LocalDateTime deletedAt);
+
+    List<Long> findDeletedPostIds(@Param("before") LocalDateTime before,
+                                  @Param("limit") int limit);
+
+    int purge(@Param("postId") Long postId);
+
+    int applyLikeDeltas(@Param("deltas") Map<Long, Long> deltas);
+
+    void increaseCommentCount(@Param("postId") Long postId);
+
+    void decreaseCommentCount(@Param("postId") Long postId);
+
+    void increaseVersion(@Param("postId") Long postId);
+
+    long findMaxId();
 
-    void increaseLikes(@Param("postId") Long postId);
+    int reconcileCommentCounts(@Param("fromId") long fromId,
+                               @Param("toId") long toId);
 
-    void decreaseLikes(@Param("postId") Long postId);
+    /**
+     * @param excludedIds 보정하지 않을 게시글 ID (아직 반영되지 않은 좋아요 증감이 있는 게시글)
+     */
+    int reconcileLikeCounts(@Param("fromId") long fromId,
+                            @Param("toId") long toId,
+                            @Param("excludedIds") Collection<Long> excludedIds);
 }
@@ -0,0 +1,27 @@
+package com.yumyumcoach.domain.community.mapper;
+
+import com.yumyumcoach.domain.community.entity.PostViewStat;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface PostViewStatMapper {
+    List<PostViewStat> findByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 조회수만 읽는다. (스케치 제외)
+     */
+    List<PostViewStat> findCountsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 반영 전에 행을 잠그고 읽는다. (다른 인스턴스의 반영과 스케치가 섞이지 않도록)
+     */
+    List<PostViewStat> findByPostIdsForUpdate(@Param("postIds") Collection<Long> postIds);
+
+    void upsertAll(@Param("stats") List<PostViewStat> stats);
+
+    void deleteByPostId(@Param("postId") Long postId);
+}
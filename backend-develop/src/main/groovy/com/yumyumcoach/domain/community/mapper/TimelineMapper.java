@@ -0,0 +1,30 @@
+package com.yumyumcoach.domain.community.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface TimelineMapper {
+    /**
+     * 여러 사용자의 타임라인에 게시글 하나를 넣는다. (이미 있으면 무시)
+     */
+    void insertEntries(@Param("ownerEmails") List<String> ownerEmails,
+                       @Param("postId") Long postId,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 타임라인 게시글 ID (최신순)
+     */
+    List<Long> findPostIds(@Param("ownerEmail") String ownerEmail,
+                           @Param("beforeId") Long beforeId,
+                           @Param("limit") int limit);
+
+    /**
+     * 보관 기간이 지난 항목 삭제 (한 번에 limit 건까지)
+     */
+    int deleteOlderThan(@Param("before") LocalDateTime before,
+                        @Param("limit") int limit);
+}
@@ -0,0 +1,26 @@
+package com.yumyumcoach.domain.community.ranking;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 인기글 점수 (시간 감쇠 hot score).
+ * - score = log10(1 + 좋아요 + 2 × 댓글) + 작성시각(epoch 초) / 45000
+ * - 반응이 10배가 되어야 45000초(12.5시간) 더 최신 글과 같은 점수가 된다.
+ * - 나이가 "작성 시각"으로 들어가 있어서 시간이 흘러도 게시글끼리의 순서는 바뀌지 않는다.
+ *   → 좋아요/댓글이 바뀐 게시글만 다시 계산하면 되고, 전체 점수를 주기적으로 다시 매길 필요가 없다.
+ * - PostMapper.xml 의 POPULAR 정렬식(인메모리 랭킹 준비 전 대체 경로)과 같은 식을 사용한다.
+ */
+public final class HotScore {
+    static final double COMMENT_WEIGHT = 2.0;
+    static final double DECAY_SECONDS = 45000.0;
+
+    private HotScore() {
+    }
+
+    public static double of(int likes, int commentCount, LocalDateTime createdAt) {
+        double engagement = Math.max(0, likes) + COMMENT_WEIGHT * Math.max(0, commentCount);
+        long epochSeconds = createdAt.atZone(ZoneId.systemDefault()).toEpochSecond();
+        return Math.log10(1 + engagement) + epochSeconds / DECAY_SECONDS;
+    }
+}
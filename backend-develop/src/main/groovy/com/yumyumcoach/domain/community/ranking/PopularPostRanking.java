@@ -0,0 +1,216 @@
+package com.yumyumcoach.domain.community.ranking;
+
+import com.yumyumcoach.domain.community.entity.PostStat;
+import com.yumyumcoach.domain.community.event.CommentEvent;
+import com.yumyumcoach.domain.community.event.PostEvent;
+import com.yumyumcoach.domain.community.event.PostLikeEvent;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * 인기글(POPULAR) 랭킹.
+ * - 최근 WINDOW_DAYS 일 동안 작성된 게시글을 HotScore 순으로 RankingSkipList 에 유지한다.
+ *   (HotScore 특성상 그보다 오래된 글이 최근 글을 앞지르려면 반응이 10^57 배 이상 필요하므로 잘라내도 순위가 바뀌지 않는다.)
+ * - 좋아요/댓글/게시글 변경은 커밋 이후 이벤트로 받아 해당 게시글의 점수만 다시 계산한다.
+ * - 주기적으로 DB 에서 다시 읽어 기간이 지난 게시글을 빼고, 이벤트 유실 등으로 어긋난 카운트를 바로잡는다.
+ * - 한 페이지 조회는 O(log n + k)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularPostRanking {
+    private static final int WINDOW_DAYS = 30;
+
+    private final PostMapper postMapper;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private RankingSkipList ranking = new RankingSkipList();
+    private Map<Long, Entry> entries = new HashMap<>();
+
+    private volatile boolean ready;
+
+    /**
+     * 기동 직후 최초 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * 주기적으로 DB 기준으로 다시 적재 (기간 지난 게시글 제거 + 카운트 보정)
+     * - 새 구조를 락 밖에서 만든 뒤 교체하므로 조회는 막히지 않는다.
+     * - 적재 도중 커밋된 변경이 새 구조에서 빠질 수 있지만 다음 주기에 다시 맞춰진다.
+     */
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void refresh() {
+        try {
+            LocalDateTime since = LocalDateTime.now().minusDays(WINDOW_DAYS);
+            List<PostStat> stats = postMapper.findPostStatsSince(since);
+
+            RankingSkipList newRanking = new RankingSkipList();
+            Map<Long, Entry> newEntries = new HashMap<>(stats.size() * 2);
+            for (PostStat stat : stats) {
+                Entry entry = new Entry(stat.getCreatedAt(), stat.getLikes(), stat.getCommentCount());
+                newEntries.put(stat.getPostId(), entry);
+                newRanking.insert(stat.getPostId(), entry.score);
+            }
+
+            lock.writeLock().lock();
+            try {
+                ranking = newRanking;
+                entries = newEntries;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+        } catch (RuntimeException e) {
+            log.error("인기글 랭킹 적재 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostEvent(PostEvent event) {
+        switch (event.getType()) {
+            case CREATED -> add(event.getPostId(), event.getPost().getCreatedAt());
+            case UPDATED -> {
+                // 제목/내용 수정은 점수와 무관
+            }
+            case DELETED -> remove(event.getPostId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostLikeEvent(PostLikeEvent event) {
+        update(event.getPostId(), entry -> entry.withLikes(entry.likes + event.delta()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentEvent(CommentEvent event) {
+        update(event.getPostId(), entry -> entry.withCommentCount(entry.commentCount + event.delta()));
+    }
+
+    /**
+     * 첫 적재가 끝나 조회에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 랭킹에 올라 있는 게시글 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranking.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인기순 offset 번째부터 limit 개의 게시글 ID
+     */
+    public List<Long> findPostIds(int offset, int limit) {
+        long[] postIds;
+        lock.readLock().lock();
+        try {
+            postIds = ranking.range(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return Arrays.stream(postIds).boxed().toList();
+    }
+
+    /**
+     * 새 게시글을 랭킹에 올린다. (좋아요/댓글 0)
+     */
+    private void add(Long postId, LocalDateTime createdAt) {
+        lock.writeLock().lock();
+        try {
+            if (entries.containsKey(postId)) {
+                return;
+            }
+            Entry entry = new Entry(createdAt, 0, 0);
+            entries.put(postId, entry);
+            ranking.insert(postId, entry.score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 점수를 다시 계산해 순위를 옮긴다.
+     * - 기간이 지나 랭킹에서 빠진 게시글은 무시한다.
+     */
+    private void update(Long postId, UnaryOperator<Entry> change) {
+        lock.writeLock().lock();
+        try {
+            Entry current = entries.get(postId);
+            if (current == null) {
+                return;
+            }
+            Entry changed = change.apply(current);
+            ranking.remove(postId, current.score);
+            ranking.insert(postId, changed.score);
+            entries.put(postId, changed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            Entry current = entries.remove(postId);
+            if (current != null) {
+                ranking.remove(postId, current.score);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 하나의 점수 계산 재료와 계산된 점수 (불변)
+     */
+    private static final class Entry {
+        final LocalDateTime createdAt;
+        final int likes;
+        final int commentCount;
+        final double score;
+
+        Entry(LocalDateTime createdAt, int likes, int commentCount) {
+            this.createdAt = createdAt;
+            this.likes = Math.max(0, likes);
+            this.commentCount = Math.max(0, commentCount);
+            this.score = HotScore.of(this.likes, this.commentCount, createdAt);
+        }
+
+        Entry withLikes(int likes) {
+            return new Entry(createdAt, likes, commentCount);
+        }
+
+        Entry withCommentCount(int commentCount) {
+            return new Entry(createdAt, likes, commentCount);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.yumyumcoach.domain.community.ranking;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 순위(rank)로 접근 가능한 스킵 리스트. (Redis sorted set 과 같은 구조)
+ * - (점수 내림차순, 게시글 ID 내림차순) 으로 정렬한다.
+ * - 각 레벨의 링크마다 건너뛰는 노드 수(span)를 함께 기록해 두어
+ *   n 번째 노드를 O(log n) 에 찾고, 거기서부터 k 개를 O(k) 로 읽는다.
+ * - 스레드 안전하지 않다. (PopularPostRanking 에서 락으로 보호)
+ */
+final class RankingSkipList {
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    private final Node head = new Node(0, Double.POSITIVE_INFINITY, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 노드를 추가한다. 같은 (score, postId) 가 이미 있는지는 확인하지 않는다.
+     */
+    void insert(long postId, double score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && precedes(x.next[i], postId, score)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int newLevel = randomLevel();
+        if (newLevel > level) {
+            for (int i = level; i < newLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = newLevel;
+        }
+
+        Node node = new Node(postId, score, newLevel);
+        for (int i = 0; i < newLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = newLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+    }
+
+    /**
+     * 노드를 제거한다.
+     *
+     * @return 제거했으면 true
+     */
+    boolean remove(long postId, double score) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && precedes(x.next[i], postId, score)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        x = x.next[0];
+        if (x == null || x.postId != postId || x.score != score) {
+            return false;
+        }
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == x) {
+                update[i].span[i] += x.span[i] - 1;
+                update[i].next[i] = x.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * offset 번째(0부터)부터 최대 limit 개의 게시글 ID 를 순위대로 반환한다.
+     */
+    long[] range(int offset, int limit) {
+        if (offset < 0 || offset >= size || limit <= 0) {
+            return new long[0];
+        }
+
+        // span 을 따라 (offset + 1) 번째 노드까지 내려간다.
+        int target = offset + 1;
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= target) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+        }
+
+        long[] postIds = new long[Math.min(limit, size - offset)];
+        for (int n = 0; n < postIds.length; n++) {
+            postIds[n] = x.postId;
+            x = x.next[0];
+        }
+        return postIds;
+    }
+
+    /**
+     * node 가 (postId, score) 보다 앞 순위인지
+     */
+    private static boolean precedes(Node node, long postId, double score) {
+        return node.score > score || (node.score == score && node.postId > postId);
+    }
+
+    private static int randomLevel() {
+        int newLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (newLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            newLevel++;
+        }
+        return newLevel;
+    }
+
+    private static final class Node {
+        final long postId;
+        final double score;
+        final Node[] next;
+        final int[] span;
+
+        Node(long postId, double score, int level) {
+            this.postId = postId;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.yumyumcoach.domain.community.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 게시글 검색용 바이그램 토크나이저.
+ * - 글자/숫자가 연속된 구간(run)을 두 글자씩 겹쳐 자른다. (예: "단백질" → "단백", "백질")
+ * - 한글은 음절 단위 바이그램이 되어 조사/어미가 붙어도 부분 일치로 검색된다.
+ * - 한 글자짜리 구간은 유니그램 토큰으로 색인한다.
+ * - 토큰은 두 글자를 하나의 int 로 인코딩한다. ((첫 글자 << 16) | 둘째 글자, 유니그램은 둘째 글자 = 0)
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 문서(제목, 본문 …)를 토큰 배열로 변환한다. (중복 포함, 빈도 계산용)
+     * - 필드마다 따로 자르고, null 인 필드는 건너뛴다. (본문이 NULL 인 게시글)
+     */
+    public static int[] tokenize(String... fields) {
+        IntBuffer out = new IntBuffer();
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            forEachRun(normalize(field), (s, start, end) -> {
+                if (end - start == 1) {
+                    out.add(unigram(s.charAt(start)));
+                    return;
+                }
+                for (int i = start; i < end - 1; i++) {
+                    out.add(bigram(s.charAt(i), s.charAt(i + 1)));
+                }
+            });
+        }
+        return out.toArray();
+    }
+
+    /**
+     * 검색어를 검색 조건으로 변환한다.
+     * - 두 글자 이상 단어 : 바이그램 토큰 (모두 포함되어야 함)
+     * - 한 글자 단어 : 해당 글자로 시작하는 토큰 접두어 검색
+     */
+    public static Query parseQuery(String keyword) {
+        IntBuffer tokens = new IntBuffer();
+        StringBuilder prefixes = new StringBuilder();
+        forEachRun(normalize(keyword), (s, start, end) -> {
+            if (end - start == 1) {
+                prefixes.append(s.charAt(start));
+                return;
+            }
+            for (int i = start; i < end - 1; i++) {
+                tokens.add(bigram(s.charAt(i), s.charAt(i + 1)));
+            }
+        });
+        int[] distinctTokens = Arrays.stream(tokens.toArray()).distinct().toArray();
+        return new Query(distinctTokens, prefixes.toString().chars().distinct().toArray());
+    }
+
+    /**
+     * 해당 글자로 시작하는 토큰 범위의 시작값 (포함)
+     */
+    static int prefixStart(int ch) {
+        return ch << 16;
+    }
+
+    /**
+     * 해당 글자로 시작하는 토큰 범위의 끝값 (포함)
+     */
+    static int prefixEnd(int ch) {
+        return (ch << 16) | 0xFFFF;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static int unigram(char ch) {
+        return ch << 16;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void forEachRun(String s, RunConsumer consumer) {
+        int runStart = -1;
+        for (int i = 0; i <= s.length(); i++) {
+            boolean wordChar = i < s.length() && Character.isLetterOrDigit(s.charAt(i));
+            if (wordChar && runStart < 0) {
+                runStart = i;
+            } else if (!wordChar && runStart >= 0) {
+                consumer.accept(s, runStart, i);
+                runStart = -1;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(String s, int start, int end);
+    }
+
+    /**
+     * 파싱된 검색 조건.
+     *
+     * @param tokens       반드시 포함되어야 하는 바이그램 토큰 (중복 제거)
+     * @param prefixChars  접두어 검색할 한 글자 단어 (중복 제거)
+     */
+    public record Query(int[] tokens, int[] prefixChars) {
+        public boolean isEmpty() {
+            return tokens.length == 0 && prefixChars.length == 0;
+        }
+    }
+
+    /**
+     * 박싱 없이 int 를 모으는 가변 버퍼.
+     */
+    private static final class IntBuffer {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.yumyumcoach.domain.community.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 인메모리 역색인.
+ * - 토큰(int) → 포스팅 리스트(int 문서 ID 배열)
+ * - 게시글마다 내부 문서 ID(int)를 순서대로 부여하고, 수정 시에는 기존 문서를 삭제 표시한 뒤 새 문서 ID 로 다시 색인한다.
+ * - 삭제 표시된 문서가 일정 비율을 넘으면 포스팅 리스트를 컴팩션한다.
+ * - 검색은 모든 토큰을 포함하는 문서(AND)를 BM25 점수 순으로 top-k 만 뽑는다.
+ * - 읽기/쓰기는 ReadWriteLock 으로 보호한다. (검색끼리는 동시에 수행)
+ */
+public class PostSearchIndex {
+    private static final double BM25_K1 = 1.2;
+    private static final double BM25_B = 0.75;
+    private static final double COMPACTION_RATIO = 0.25;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 토큰 → 포스팅 리스트 (접두어 검색을 위해 정렬된 맵 사용)
+     */
+    private final NavigableMap<Integer, PostingList> postings = new TreeMap<>();
+
+    /**
+     * 게시글 ID → 현재 문서 ID
+     */
+    private final Map<Long, Integer> docIdByPostId = new HashMap<>();
+
+    /**
+     * 문서 ID → 게시글 ID / 문서 길이(토큰 수)
+     */
+    private long[] postIdByDocId = new long[1024];
+    private int[] docLengths = new int[1024];
+
+    /**
+     * 삭제 표시된 문서 ID
+     */
+    private final BitSet deleted = new BitSet();
+
+    private int nextDocId;
+    private int liveDocCount;
+    private int deletedDocCount;
+    private long totalDocLength;
+
+    /**
+     * 게시글을 색인한다. 이미 색인된 게시글이면 기존 문서를 지우고 다시 색인한다.
+     */
+    public void put(long postId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            addInternal(postId, title, content);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 색인되지 않은 게시글만 색인한다. (초기 일괄 색인용)
+     *
+     * @return 새로 색인했으면 true
+     */
+    public boolean putIfAbsent(long postId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            if (docIdByPostId.containsKey(postId)) {
+                return false;
+            }
+            addInternal(postId, title, content);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 색인에서 제거한다.
+     */
+    public void remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 게시글 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 게시글을 관련도 순으로 조회한다.
+     *
+     * @param keyword 검색어
+     * @param offset  건너뛸 결과 수
+     * @param limit   가져올 결과 수
+     * @return 관련도 내림차순(동점이면 최신 게시글 우선) 게시글 ID 목록과 전체 일치 건수
+     */
+    public PostSearchResult search(String keyword, int offset, int limit) {
+        BigramTokenizer.Query query = BigramTokenizer.parseQuery(keyword);
+        if (query.isEmpty() || limit <= 0) {
+            return PostSearchResult.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = resolvePostingLists(query);
+            if (lists.isEmpty()) {
+                return PostSearchResult.empty();
+            }
+            // 가장 짧은 리스트를 기준으로 나머지를 스킵 포인터로 따라가며 교집합을 구한다.
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                double df = lists.get(i).size();
+                idf[i] = Math.log(1 + (liveDocCount - df + 0.5) / (df + 0.5));
+            }
+            double avgDocLength = liveDocCount > 0 ? (double) totalDocLength / liveDocCount : 1.0;
+
+            int k = offset + limit;
+            PriorityQueue<Hit> topK = new PriorityQueue<>(k + 1, Hit.WORST_FIRST);
+            int totalCount = 0;
+
+            PostingList lead = lists.get(0);
+            int[] positions = new int[lists.size()];
+            candidates:
+            for (int i = 0; i < lead.size(); i++) {
+                int docId = lead.docIdAt(i);
+                if (deleted.get(docId)) {
+                    continue;
+                }
+                int docLength = docLengths[docId];
+                double score = bm25(lead.freqAt(i), idf[0], docLength, avgDocLength);
+                for (int j = 1; j < lists.size(); j++) {
+                    PostingList other = lists.get(j);
+                    int position = other.advance(positions[j], docId);
+                    positions[j] = position;
+                    if (position >= other.size()) {
+                        break candidates;
+                    }
+                    if (other.docIdAt(position) != docId) {
+                        continue candidates;
+                    }
+                    score += bm25(other.freqAt(position), idf[j], docLength, avgDocLength);
+                }
+
+                totalCount++;
+                topK.offer(new Hit(postIdByDocId[docId], score));
+                if (topK.size() > k) {
+                    topK.poll();
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(topK);
+            ranked.sort(Hit.WORST_FIRST.reversed());
+            List<Long> postIds = ranked.stream()
+                    .skip(offset)
+                    .map(Hit::postId)
+                    .toList();
+            return new PostSearchResult(postIds, totalCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 조건에 해당하는 포스팅 리스트 목록. 하나라도 없으면 빈 목록 (AND 검색이므로 결과 없음)
+     */
+    private List<PostingList> resolvePostingLists(BigramTokenizer.Query query) {
+        List<PostingList> lists = new ArrayList<>();
+        for (int token : query.tokens()) {
+            PostingList list = postings.get(token);
+            if (list == null) {
+                return Collections.emptyList();
+            }
+            lists.add(list);
+        }
+        for (int ch : query.prefixChars()) {
+            Collection<PostingList> matched = postings.subMap(
+                    BigramTokenizer.prefixStart(ch), true,
+                    BigramTokenizer.prefixEnd(ch), true
+            ).values();
+            if (matched.isEmpty()) {
+                return Collections.emptyList();
+            }
+            lists.add(PostingList.union(matched));
+        }
+        return lists;
+    }
+
+    private void addInternal(long postId, String title, String content) {
+        int[] tokens = BigramTokenizer.tokenize(title, content);
+        int docId = nextDocId++;
+        ensureDocCapacity(docId);
+        postIdByDocId[docId] = postId;
+        docLengths[docId] = tokens.length;
+        docIdByPostId.put(postId, docId);
+        liveDocCount++;
+        totalDocLength += tokens.length;
+
+        // 같은 토큰끼리 모아 빈도를 센 뒤 포스팅 리스트 끝에 추가
+        Arrays.sort(tokens);
+        int runStart = 0;
+        for (int i = 1; i <= tokens.length; i++) {
+            if (i == tokens.length || tokens[i] != tokens[runStart]) {
+                postings.computeIfAbsent(tokens[runStart], token -> new PostingList())
+                        .add(docId, i - runStart);
+                runStart = i;
+            }
+        }
+    }
+
+    private void removeInternal(long postId) {
+        Integer docId = docIdByPostId.remove(postId);
+        if (docId == null) {
+            return;
+        }
+        deleted.set(docId);
+        liveDocCount--;
+        deletedDocCount++;
+        totalDocLength -= docLengths[docId];
+    }
+
+    /**
+     * 삭제 표시된 문서가 살아있는 문서의 일정 비율을 넘으면 포스팅 리스트에서 실제로 제거한다.
+     */
+    private void compactIfNeeded() {
+        if (deletedDocCount < 1024 || deletedDocCount < liveDocCount * COMPACTION_RATIO) {
+            return;
+        }
+        postings.values().removeIf(list -> {
+            list.removeAll(deleted);
+            return list.size() == 0;
+        });
+        // 문서 ID 는 재사용하지 않으므로 삭제 표시는 지우지 않고 유지한다.
+        deletedDocCount = 0;
+    }
+
+    private void ensureDocCapacity(int docId) {
+        if (docId < postIdByDocId.length) {
+            return;
+        }
+        int capacity = Math.max(docId + 1, postIdByDocId.length * 2);
+        postIdByDocId = Arrays.copyOf(postIdByDocId, capacity);
+        docLengths = Arrays.copyOf(docLengths, capacity);
+    }
+
+    private static double bm25(int freq, double idf, int docLength, double avgDocLength) {
+        double norm = BM25_K1 * (1 - BM25_B + BM25_B * docLength / avgDocLength);
+        return idf * (freq * (BM25_K1 + 1)) / (freq + norm);
+    }
+
+    /**
+     * 검색 후보 (게시글 ID, 점수)
+     */
+    private record Hit(long postId, double score) {
+        /**
+         * 점수 낮은 순, 동점이면 오래된 게시글 순 (top-k 힙에서 가장 먼저 밀려날 후보가 앞)
+         */
+        static final Comparator<Hit> WORST_FIRST = Comparator
+                .comparingDouble(Hit::score)
+                .thenComparingLong(Hit::postId);
+    }
+}
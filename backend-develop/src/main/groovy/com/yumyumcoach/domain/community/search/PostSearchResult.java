@@ -0,0 +1,29 @@
+package com.yumyumcoach.domain.community.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 인메모리 검색 결과.
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchResult {
+
+    /**
+     * 요청한 구간(offset, limit)에 해당하는 게시글 ID (관련도 내림차순)
+     */
+    private final List<Long> postIds;
+
+    /**
+     * 검색어와 일치하는 전체 게시글 수
+     */
+    private final int totalCount;
+
+    public static PostSearchResult empty() {
+        return new PostSearchResult(Collections.emptyList(), 0);
+    }
+}
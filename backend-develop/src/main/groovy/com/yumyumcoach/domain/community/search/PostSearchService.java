@@ -0,0 +1,114 @@
+package com.yumyumcoach.domain.community.search;
+
+import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.event.PostEvent;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 역색인 기반 게시글 검색.
+ * - community.search.engine=memory 일 때만 등록된다. (그 외에는 MySQL FULLTEXT 검색 사용)
+ * - 애플리케이션 기동 후 posts 테이블을 id 순으로 나눠 읽어 색인을 만든다.
+ * - 게시글 작성/수정/삭제는 트랜잭션 커밋 이후 PostEvent 로 받아 색인에 바로 반영한다.
+ * - 초기 색인이 끝나기 전(isReady() == false)에는 PostService 가 FULLTEXT 검색으로 대신 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "community.search", name = "engine", havingValue = "memory")
+public class PostSearchService {
+    private static final int BUILD_CHUNK_SIZE = 1000;
+
+    private final PostMapper postMapper;
+    private final PostSearchIndex index = new PostSearchIndex();
+
+    /**
+     * 초기 색인 중에 삭제된 게시글 ID
+     * - 이미 읽어 둔 청크에 포함되어 있어도 색인하지 않기 위해 기록한다.
+     */
+    private final Set<Long> removedDuringBuild = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean building;
+    private volatile boolean ready;
+
+    /**
+     * 초기 색인 (기동 직후 한 번)
+     * - 청크 단위로 읽기 때문에 게시글 수와 무관하게 메모리에 올리는 Post 는 청크 크기만큼이다.
+     * - 색인 중에 들어온 작성/수정 이벤트가 먼저 반영되어 있으면 덮어쓰지 않는다. (putIfAbsent)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        building = true;
+        long startedAt = System.currentTimeMillis();
+        try {
+            long afterId = 0;
+            while (true) {
+                List<Post> chunk = postMapper.findPostsForIndex(afterId, BUILD_CHUNK_SIZE);
+                for (Post post : chunk) {
+                    if (!removedDuringBuild.contains(post.getId())) {
+                        index.putIfAbsent(post.getId(), post.getTitle(), post.getContent());
+                    }
+                }
+                if (chunk.size() < BUILD_CHUNK_SIZE) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1).getId();
+            }
+            ready = true;
+            log.info("게시글 검색 색인 완료 : {}건, {}ms", index.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("게시글 검색 색인 실패 : FULLTEXT 검색으로 대체합니다.", e);
+        } finally {
+            building = false;
+            removedDuringBuild.clear();
+        }
+    }
+
+    /**
+     * 게시글 작성/수정/삭제 반영 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostEvent(PostEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> {
+                Post post = event.getPost();
+                index.put(post.getId(), post.getTitle(), post.getContent());
+            }
+            case DELETED -> {
+                if (building) {
+                    removedDuringBuild.add(event.getPostId());
+                }
+                index.remove(event.getPostId());
+            }
+        }
+    }
+
+    /**
+     * 초기 색인이 끝나 검색에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 키워드 검색 (관련도 순)
+     *
+     * @param keyword 사용자가 입력한 검색어
+     * @param offset  건너뛸 결과 수
+     * @param limit   가져올 결과 수
+     */
+    public PostSearchResult search(String keyword, int offset, int limit) {
+        return index.search(keyword, offset, limit);
+    }
+}
@@ -0,0 +1,124 @@
+package com.yumyumcoach.domain.community.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * 토큰 하나의 포스팅 리스트.
+ * - 문서 ID(int) 오름차순 배열 + 같은 위치의 토큰 빈도(int) 배열 (박싱 없음)
+ * - 새 문서 ID 는 항상 기존보다 크므로 추가는 배열 끝에 append 하면 된다.
+ * - 교집합 계산 시 sqrt(n) 간격의 스킵 포인터로 건너뛴 뒤 선형 탐색한다.
+ */
+final class PostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] docIds;
+    private int[] freqs;
+    private int size;
+
+    PostingList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private PostingList(int capacity) {
+        this.docIds = new int[capacity];
+        this.freqs = new int[capacity];
+    }
+
+    /**
+     * 문서를 추가한다. docId 는 마지막 문서 ID 보다 커야 한다.
+     */
+    void add(int docId, int freq) {
+        if (size == docIds.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size + (size >> 1));
+            docIds = Arrays.copyOf(docIds, capacity);
+            freqs = Arrays.copyOf(freqs, capacity);
+        }
+        docIds[size] = docId;
+        freqs[size] = freq;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int docIdAt(int index) {
+        return docIds[index];
+    }
+
+    int freqAt(int index) {
+        return freqs[index];
+    }
+
+    /**
+     * from 위치부터 시작해 docId 가 target 이상인 첫 위치를 찾는다. (없으면 size)
+     * - 스킵 포인터(sqrt(n) 간격)를 따라 target 을 넘지 않는 곳까지 점프한 뒤 선형 탐색
+     */
+    int advance(int from, int target) {
+        int skip = Math.max(1, (int) Math.sqrt(size));
+        int index = from;
+        while (index + skip < size && docIds[index + skip] <= target) {
+            index += skip;
+        }
+        while (index < size && docIds[index] < target) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * 삭제 표시된 문서를 제거한다. (컴팩션)
+     */
+    void removeAll(BitSet deleted) {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (!deleted.get(docIds[read])) {
+                docIds[write] = docIds[read];
+                freqs[write] = freqs[read];
+                write++;
+            }
+        }
+        size = write;
+        if (docIds.length > INITIAL_CAPACITY && size < docIds.length / 4) {
+            docIds = Arrays.copyOf(docIds, Math.max(INITIAL_CAPACITY, size));
+            freqs = Arrays.copyOf(freqs, Math.max(INITIAL_CAPACITY, size));
+        }
+    }
+
+    /**
+     * 여러 포스팅 리스트의 합집합을 만든다. (접두어 검색용, 같은 문서의 빈도는 합산)
+     */
+    static PostingList union(Collection<PostingList> lists) {
+        if (lists.size() == 1) {
+            return lists.iterator().next();
+        }
+        int total = 0;
+        for (PostingList list : lists) {
+            total += list.size;
+        }
+
+        // (docId, freq) 쌍을 long 하나로 묶어 정렬한 뒤 같은 docId 를 합친다.
+        long[] pairs = new long[total];
+        int n = 0;
+        for (PostingList list : lists) {
+            for (int i = 0; i < list.size; i++) {
+                pairs[n++] = ((long) list.docIds[i] << 32) | list.freqs[i];
+            }
+        }
+        Arrays.sort(pairs);
+
+        PostingList merged = new PostingList(Math.max(INITIAL_CAPACITY, total));
+        for (long pair : pairs) {
+            int docId = (int) (pair >>> 32);
+            int freq = (int) pair;
+            if (merged.size > 0 && merged.docIds[merged.size - 1] == docId) {
+                merged.freqs[merged.size - 1] += freq;
+            } else {
+                merged.add(docId, freq);
+            }
+        }
+        return merged;
+    }
+}
@@ -3,19 +3,26 @@ package com.yumyumcoach.domain.community.service;
 
 import com.yumyumcoach.domain.community.dto.CommentRequest;
 import com.yumyumcoach.domain.community.dto.CommentResponse;
+import com.yumyumcoach.domain.community.dto.GetCommentsRequest;
 import com.yumyumcoach.domain.community.dto.GetCommentsResponse;
+import com.yumyumcoach.domain.community.dto.KeysetCursor;
 import com.yumyumcoach.domain.community.entity.Post;
 import com.yumyumcoach.domain.community.entity.PostComment;
+import com.yumyumcoach.domain.community.event.CommentEvent;
 import com.yumyumcoach.domain.community.mapper.PostCommentMapper;
 import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.domain.user.entity.AuthorSummary;
+import com.yumyumcoach.domain.user.service.AuthorSummaryService;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Community 댓글 관련 서비스.
@@ -26,31 +33,50 @@ import java.util.List;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final PostMapper postMapper;
     private final PostCommentMapper postCommentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuthorSummaryService authorSummaryService;
 
     /**
      * 특정 게시글의 댓글 목록 조회
      * - GET /api/posts/{postId}/comments
+     * - (created_at, id) 키셋 페이징 : 오래된 댓글부터 size 건씩, 이어서 볼 때는 nextCursor 를 넘긴다.
      */
-    public GetCommentsResponse getComments(Long postId) {
+    public GetCommentsResponse getComments(Long postId, GetCommentsRequest request) {
         // 1) 게시글 존재 여부 확인
         Post post = postMapper.findById(postId);
         if (post == null) {
             throw new BusinessException(ErrorCode.POST_NOT_FOUND, "댓글을 조회할 게시글을 찾을 수 없습니다.");
         }
 
-        // 2) 댓글 목록 조회
-        List<PostComment> comments = postCommentMapper.findByPostId(postId);
-
-        // 3) CommentResponse 리스트로 매핑
+        // 2) 댓글 목록 조회 (다음 페이지 존재 여부 확인을 위해 size + 1 건)
+        int size = Math.max(1, Math.min(request.getSize(), MAX_PAGE_SIZE));
+        KeysetCursor cursor = request.getCursor() != null && !request.getCursor().isBlank()
+                ? KeysetCursor.decode(request.getCursor())
+                : null;
+        List<PostComment> rows = postCommentMapper.findByPostIdAfterCursor(
+                postId,
+                cursor != null ? cursor.getCreatedAt() : null,
+                cursor != null ? cursor.getId() : null,
+                size + 1);
+        boolean hasNext = rows.size() > size;
+        List<PostComment> comments = hasNext ? rows.subList(0, size) : rows;
+        PostComment last = comments.isEmpty() ? null : comments.get(comments.size() - 1);
+        String nextCursor = hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null;
+
+        // 3) CommentResponse 리스트로 매핑 (작성자 요약은 페이지의 작성자들을 한 번에 조회)
+        Map<String, AuthorSummary> authors = authorSummaryService.findByEmails(comments.stream()
+                .map(PostComment::getAuthorEmail)
+                .toList());
         List<CommentResponse> commentResponses = comments.stream()
                 .map(comment -> CommentResponse.builder()
                         .commentId(comment.getId())
                         .postId(comment.getPostId())
-                        // User 도메인 연동 전 : 일단 author 관련은 null로 세팅
                         .authorId(null)
-                        .authorUsername(null)
+                        .authorUsername(usernameOf(authors.get(comment.getAuthorEmail())))
                         .authorProfileImageUrl(null)
                         .content(comment.getContent())
                         .createdAt(comment.getCreatedAt())
@@ -60,11 +86,23 @@ public class CommentService {
 
         return GetCommentsResponse.builder()
                 .postId(postId)
-                .totalCount(commentResponses.size())
+                .totalCount(post.getCommentCount())
+                .nextCursor(nextCursor)
                 .comments(commentResponses)
                 .build();
     }
 
+    /**
+     * 댓글 목록 응답의 ETag (조건부 GET 용)
+     * - 댓글 작성/수정/삭제 시 +1 되는 posts.version 기준 (cursor/size 는 URL 에 포함되므로 따로 넣지 않는다)
+     *
+     * @return 게시글이 없으면 null (본문 조회에서 404 처리)
+     */
+    public String getCommentsETag(Long postId) {
+        Long version = postMapper.findVersion(postId);
+        return version != null ? "\"c" + postId + "-" + version + "\"" : null;
+    }
+
     /**
      * 댓글 작성
      * - POST /api/posts/{postId}/comments
@@ -89,12 +127,16 @@ public class CommentService {
         // 3) DB 저장 (id 자동 증가)
         postCommentMapper.insert(comment); // useGeneratedKeys=true 로 인해 comment.id 세팅됨
 
+        // 4) posts.comment_count +1 (같은 트랜잭션)
+        postMapper.increaseCommentCount(postId);
+        eventPublisher.publishEvent(CommentEvent.created(postId, comment.getId()));
+
         return CommentResponse.builder()
                 .commentId(comment.getId())
                 .postId(postId)
-                .authorId(null)   // TODO: User 도메인 연동 후 세팅
-                .authorUsername(null)
-                .authorProfileImageUrl(null)
+                .authorId(null)   // accounts 에 숫자 ID 없음
+                .authorUsername(usernameOf(authorSummaryService.findByEmail(loginUserEmail)))
+                .authorProfileImageUrl(null)  // 프로필 이미지 컬럼 없음
                 .content(comment.getContent())
                 .createdAt(comment.getCreatedAt())
                 .build();
@@ -123,12 +165,13 @@ public class CommentService {
                 .id(commentId)
                 .content(request.getContent())
                 .build());
+        postMapper.increaseVersion(postId);
 
         return CommentResponse.builder()
                 .commentId(commentId)
                 .postId(postId)
                 .authorId(null)
-                .authorUsername(null)
+                .authorUsername(usernameOf(authorSummaryService.findByEmail(existing.getAuthorEmail())))
                 .authorProfileImageUrl(null)
                 .content(request.getContent())
                 .createdAt(existing.getCreatedAt())
@@ -153,7 +196,15 @@ public class CommentService {
             throw new BusinessException(ErrorCode.COMMENT_FORBIDDEN);
         }
 
-        // 3) 해당 댓글 1개만 삭제
-        postCommentMapper.delete(commentId);
+        // 3) 해당 댓글 1개만 삭제 + posts.comment_count -1 (동시에 삭제된 경우 한 번만 차감)
+        if (postCommentMapper.delete(commentId) == 0) {
+            return;
+        }
+        postMapper.decreaseCommentCount(postId);
+        eventPublisher.publishEvent(CommentEvent.deleted(postId, commentId));
+    }
+
+    private static String usernameOf(AuthorSummary author) {
+        return author != null ? author.getUsername() : null;
     }
 }
@@ -0,0 +1,103 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.event.PostEvent;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.global.cache.BoundedCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 개수(totalCount) 서비스.
+ * - 전체 개수 : 기동 시 한 번 COUNT(*) 한 뒤 게시글 작성/삭제 이벤트로 ±1 해서 유지한다.
+ *   주기적으로 다시 세어 맞추며, 다시 세는 도중 작성/삭제가 있었으면 이번 결과는 버린다.
+ * - 키워드별 개수 : FULLTEXT 검색식별로 짧은 TTL 동안 캐시한다. (검색 결과 수는 정확도보다 비용이 중요)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCountService {
+    private static final long MAX_CACHED_KEYWORDS = 1_000;
+    private static final Duration KEYWORD_COUNT_TTL = Duration.ofSeconds(30);
+
+    private final PostMapper postMapper;
+
+    private final BoundedCache<String, Long> keywordCounts =
+            BoundedCache.ofSize(MAX_CACHED_KEYWORDS, KEYWORD_COUNT_TTL);
+
+    /**
+     * 전체 게시글 수 (아직 세지 않았으면 -1)
+     */
+    private final AtomicLong total = new AtomicLong(-1);
+
+    /**
+     * 지금까지 반영한 작성/삭제 이벤트 수 (다시 세는 도중 변경이 있었는지 확인용)
+     */
+    private final AtomicLong appliedChanges = new AtomicLong();
+
+    /**
+     * 게시글 수
+     *
+     * @param keyword FULLTEXT 검색식, null 이면 전체 게시글 수
+     */
+    public long count(String keyword) {
+        if (keyword == null) {
+            long cached = total.get();
+            return cached >= 0 ? cached : countTotal();
+        }
+        Long cached = keywordCounts.get(keyword);
+        if (cached != null) {
+            return cached;
+        }
+        long counted = postMapper.countPosts(keyword);
+        keywordCounts.put(keyword, counted);
+        return counted;
+    }
+
+    /**
+     * 기동 직후 + 주기적으로 전체 게시글 수를 DB 에서 다시 센다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void resync() {
+        countTotal();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostEvent(PostEvent event) {
+        switch (event.getType()) {
+            case CREATED -> applyChange(1);
+            case DELETED -> applyChange(-1);
+            case UPDATED -> {
+                // 개수 변화 없음
+            }
+        }
+    }
+
+    private long countTotal() {
+        long changesBefore = appliedChanges.get();
+        long counted = postMapper.countPosts(null);
+        if (appliedChanges.get() == changesBefore) {
+            long previous = total.getAndSet(counted);
+            if (previous >= 0 && previous != counted) {
+                log.info("전체 게시글 수 보정 : {} → {}", previous, counted);
+            }
+        }
+        return counted;
+    }
+
+    private void applyChange(long delta) {
+        appliedChanges.incrementAndGet();
+        // 아직 세지 않은 상태(-1)에서는 건드리지 않는다.
+        total.getAndUpdate(current -> current >= 0 ? Math.max(0, current + delta) : current);
+    }
+}
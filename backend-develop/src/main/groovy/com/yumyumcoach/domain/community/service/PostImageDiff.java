@@ -0,0 +1,81 @@
+package com.yumyumcoach.domain.community.service;
+
+import com.yumyumcoach.domain.community.entity.PostImage;
+import com.yumyumcoach.domain.community.mapper.PostImageMapper;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 게시글 이미지 변경분 (기존 post_images 행 vs 요청 이미지 URL 목록).
+ * - 자리(order_index)마다 비교해서, URL 이 다르거나 새로 생긴 자리만 저장한다. (upserted)
+ *   (post_id, order_index) UNIQUE 키로 INSERT ... ON DUPLICATE KEY UPDATE 하므로 순서가 바뀌어도 자리별 URL 만 바뀐다.
+ * - 요청 목록보다 뒤에 남은 기존 자리는 order_index 범위로 지운다. (deleteFromOrderIndex)
+ * - 적용은 다중 행 upsert 한 번 + DELETE 한 번이 최대이고, 바뀐 게 없으면 쓰기가 없다.
+ */
+@Getter
+public class PostImageDiff {
+    private final Long postId;
+    private final List<PostImage> upserted = new ArrayList<>();
+
+    /**
+     * 이 order_index 부터 뒤는 삭제 (지울 자리가 없으면 null)
+     */
+    private Integer deleteFromOrderIndex;
+
+    private PostImageDiff(Long postId) {
+        this.postId = postId;
+    }
+
+    /**
+     * @param postId    게시글 ID
+     * @param existing  현재 저장된 이미지 행
+     * @param imageUrls 요청 이미지 URL (순서대로 order_index 1, 2, ...)
+     */
+    public static PostImageDiff of(Long postId, List<PostImage> existing, List<String> imageUrls) {
+        PostImageDiff diff = new PostImageDiff(postId);
+        Map<Integer, String> existingUrlByIndex = new HashMap<>();
+        int maxExistingIndex = 0;
+        for (PostImage image : existing) {
+            existingUrlByIndex.put(image.getOrderIndex(), image.getImageUrl());
+            maxExistingIndex = Math.max(maxExistingIndex, image.getOrderIndex());
+        }
+
+        int orderIndex = 1;
+        for (String imageUrl : imageUrls) {
+            if (!existingUrlByIndex.containsKey(orderIndex)
+                    || !Objects.equals(existingUrlByIndex.get(orderIndex), imageUrl)) {
+                diff.upserted.add(PostImage.builder()
+                        .postId(postId)
+                        .imageUrl(imageUrl)
+                        .orderIndex(orderIndex)
+                        .build());
+            }
+            orderIndex++;
+        }
+        if (maxExistingIndex >= orderIndex) {
+            diff.deleteFromOrderIndex = orderIndex;
+        }
+        return diff;
+    }
+
+    public boolean isEmpty() {
+        return upserted.isEmpty() && deleteFromOrderIndex == null;
+    }
+
+    /**
+     * 변경분을 DB 에 반영한다.
+     */
+    public void applyTo(PostImageMapper postImageMapper) {
+        if (!upserted.isEmpty()) {
+            postImageMapper.upsertAll(upserted);
+        }
+        if (deleteFromOrderIndex != null) {
+            postImageMapper.deleteFromOrderIndex(postId, deleteFromOrderIndex);
+        }
+    }
+}
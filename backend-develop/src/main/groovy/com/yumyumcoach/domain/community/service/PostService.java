@@ -1,25 +1,52 @@
 package com.yumyumcoach.domain.community.service;
 
+import com.yumyumcoach.domain.community.cache.FeedPage;
+import com.yumyumcoach.domain.community.cache.FeedPageCache;
+import com.yumyumcoach.domain.community.cache.LikedPostsCache;
+import com.yumyumcoach.domain.community.counter.LikeCounter;
+import com.yumyumcoach.domain.community.dto.GetFollowingFeedRequest;
 import com.yumyumcoach.domain.community.dto.GetPostsRequest;
 import com.yumyumcoach.domain.community.dto.GetPostsResponse;
+import com.yumyumcoach.domain.community.dto.KeysetCursor;
 import com.yumyumcoach.domain.community.dto.PostRequest;
 import com.yumyumcoach.domain.community.dto.PostResponse;
 import com.yumyumcoach.domain.community.entity.Post;
 import com.yumyumcoach.domain.community.entity.PostImage;
 import com.yumyumcoach.domain.community.entity.PostLike;
-import com.yumyumcoach.domain.community.mapper.PostCommentMapper;
+import com.yumyumcoach.domain.community.event.PostEvent;
+import com.yumyumcoach.domain.community.event.PostLikeEvent;
 import com.yumyumcoach.domain.community.mapper.PostImageMapper;
 import com.yumyumcoach.domain.community.mapper.PostLikeMapper;
 import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.domain.community.ranking.PopularPostRanking;
+import com.yumyumcoach.domain.community.search.PostSearchResult;
+import com.yumyumcoach.domain.community.search.PostSearchService;
+import com.yumyumcoach.domain.community.stream.PostStreamHub;
+import com.yumyumcoach.domain.community.timeline.HomeTimeline;
+import com.yumyumcoach.domain.community.view.PostViewCount;
+import com.yumyumcoach.domain.community.view.PostViewTracker;
+import com.yumyumcoach.domain.user.entity.AuthorSummary;
+import com.yumyumcoach.domain.user.service.AuthorSummaryService;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Community 게시글 관련 서비스.
@@ -32,122 +59,259 @@ import java.util.List;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
+    private static final String SORT_POPULAR = "POPULAR";
+    private static final int MAX_FOLLOWING_FEED_SIZE = 100;
+
     private final PostMapper postMapper;
     private final PostImageMapper postImageMapper;
     private final PostLikeMapper postLikeMapper;
-    private final PostCommentMapper postCommentMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PopularPostRanking popularPostRanking;
+    private final FeedPageCache feedPageCache;
+    private final LikeCounter likeCounter;
+    private final LikedPostsCache likedPostsCache;
+    private final PostCountService postCountService;
+    private final HomeTimeline homeTimeline;
+    private final AuthorSummaryService authorSummaryService;
+    private final PostViewTracker postViewTracker;
+    private final PostStreamHub postStreamHub;
+
+    /**
+     * 인메모리 검색 엔진 (community.search.engine=memory 일 때만 존재)
+     */
+    private final ObjectProvider<PostSearchService> postSearchServiceProvider;
 
     /**
      * 전체 게시글 목록(피드) 조회
      * - GET /api/posts
      */
     public GetPostsResponse getPosts(GetPostsRequest request, String loginUserEmail) {
-        // TODO:
-        // 1) request.getPage(), request.getSize()를 사용해 페이징 조회
-        int page = request.getPage();
+        // 1) 페이징 방식 결정
+        // - cursor 가 있으면 키셋(커서) 페이징 : 페이지 깊이와 무관하게 일정한 비용
+        // - cursor 가 없으면 기존 page/size(OFFSET) 페이징
+        boolean cursorMode = request.getCursor() != null && !request.getCursor().isBlank();
+        int page = cursorMode ? 0 : request.getPage();
         int size = request.getSize();
-        int offset = (page - 1) * size;
 
-        String keyword = request.getKeyword();
-        String sort = request.getSort();
+        // 키워드는 FULLTEXT BOOLEAN MODE 검색식으로 변환 (검색어가 없으면 null)
+        String keyword = toFullTextQuery(request.getKeyword());
+        String sort = SORT_POPULAR.equalsIgnoreCase(request.getSort()) ? SORT_POPULAR : null;
+
+        // 인메모리 검색 엔진이 켜져 있고 색인이 준비되었으면 키워드 검색은 DB 를 거치지 않고 색인에서 처리
+        // - 관련도 순 결과라 커서로 이어갈 수 없으므로 page 모드만 해당 (cursor 모드는 FULLTEXT)
+        PostSearchService postSearchService = postSearchServiceProvider.getIfAvailable();
+        if (!cursorMode && keyword != null && postSearchService != null && postSearchService.isReady()) {
+            return searchPosts(postSearchService, request.getKeyword(), page, size, request.isWithTotal(), loginUserEmail);
+        }
+
+        // 인기순은 랭킹이 준비되었으면 메모리에서 해당 페이지 게시글 ID 만 꺼낸다. (준비 전에는 DB 정렬식으로 대체)
+        // - 키워드 검색은 관련도 순, cursor 모드는 최신순이 우선
+        if (!cursorMode && keyword == null && SORT_POPULAR.equals(sort) && popularPostRanking.isReady()) {
+            return getPopularPosts(page, size, request.isWithTotal(), loginUserEmail);
+        }
 
         // 2) 게시글 목록 조회
-        List<Post> posts = postMapper.findPosts(offset, size, keyword, sort);
-        if (posts.isEmpty()) {
-            return GetPostsResponse.builder()
-                    .page(page)
-                    .size(size)
-                    .totalCount(0L)
-                    .posts(Collections.emptyList())
-                    .build();
+        // - 최신순 피드(키워드 없음)는 사용자와 무관한 부분(게시글/이미지/카운트)을 캐시에서 먼저 찾는다.
+        FeedPageCache.Key cacheKey = keyword == null && sort == null
+                ? FeedPageCache.Key.of(page, request.getCursor(), size)
+                : null;
+        FeedPage feedPage = cacheKey != null ? feedPageCache.get(cacheKey) : null;
+        if (feedPage == null) {
+            long readEpoch = feedPageCache.epoch();
+            feedPage = loadFeedPage(cursorMode, request.getCursor(), page, size, keyword, sort);
+            if (cacheKey != null) {
+                feedPageCache.put(cacheKey, feedPage, readEpoch);
+            }
         }
 
-        // 3) Post -> PostResponse 매핑
-        List<PostResponse> postResponses = posts.stream()
-                .map(post -> {
-                    Long postId = post.getId();
-                    // 이미지 목록
-                    List<PostImage> postImages = postImageMapper.findByPostId(postId);
-                    List<String> imageUrls = postImages.stream()
-                            .map(PostImage::getImageUrl)
-                            .toList();
-                    // 댓글 개수
-                    long commentCount = postCommentMapper.countByPostId(postId);
-                    // 좋아요 개수 (posts.likes)
-                    int likeCount = post.getLikes();
-                    // 내가 좋아요 눌렀는지 여부
-                    boolean isLikedByMe = false;
-                    if (loginUserEmail != null) {
-                        isLikedByMe = postLikeMapper.existsByPostIdAndAuthorEmail(postId, loginUserEmail);
-                    }
-
-                    return PostResponse.builder()
-                            .postId(postId)
-                            // User 도메인 연동 전 : 일단 author 관련은 null로 세팅
-                            .authorId(null)
-                            .authorUsername(null)
-                            .authorProfileImageUrl(null)
-                            .title(post.getTitle())
-                            .content(post.getContent())
-                            .images(imageUrls)
-                            .likeCount(likeCount)
-                            .commentCount((int) commentCount)
-                            .isLikedByMe(isLikedByMe)
-                            .createdAt(post.getCreatedAt())
-                            .updatedAt(null)
-                            .build();
-                }).toList();
-
-        // 4) 전체 개수 조회
-        long totalCount = postMapper.countPosts(keyword);
+        // 3) 전체 개수 (요청한 경우만) : 전체는 메모리에서 유지하는 값, 키워드는 짧게 캐시된 값
+        Long totalCount = request.isWithTotal() ? postCountService.count(keyword) : null;
+
+        // 4) 반영 대기 중인 좋아요 수 / 로그인 사용자의 좋아요 여부를 덮어써서 응답
         return GetPostsResponse.builder()
                 .page(page)
                 .size(size)
                 .totalCount(totalCount)
-                .posts(postResponses)
+                .nextCursor(feedPage.getNextCursor())
+                .posts(applyLiveFields(feedPage.getPosts(), loginUserEmail))
+                .build();
+    }
+
+    /**
+     * 피드 한 페이지를 DB 에서 조회한다. (isLikedByMe 제외)
+     * - 다음 페이지 존재 여부 확인을 위해 size + 1 건 조회
+     */
+    private FeedPage loadFeedPage(boolean cursorMode, String cursorValue, int page, int size,
+                                  String keyword, String sort) {
+        List<Post> rows;
+        if (cursorMode) {
+            KeysetCursor cursor = KeysetCursor.decode(cursorValue);
+            rows = postMapper.findPostsByCursor(cursor.getCreatedAt(), cursor.getId(), size + 1, keyword);
+        } else {
+            int offset = (page - 1) * size;
+            rows = postMapper.findPosts(offset, size + 1, keyword, sort);
+        }
+        boolean hasNext = rows.size() > size;
+        List<Post> posts = hasNext ? rows.subList(0, size) : rows;
+        if (posts.isEmpty()) {
+            return new FeedPage(Collections.emptyList(), null);
+        }
+
+        // 다음 페이지 커서 (page 모드로 시작한 클라이언트도 이 커서로 이어서 스크롤할 수 있음)
+        // - 키워드 검색 / 인기순의 page 모드는 (created_at, id) 순서가 아니라서 커서로 이어갈 수 없으므로 내려주지 않는다.
+        boolean latestOrder = cursorMode || (keyword == null && sort == null);
+        Post last = posts.get(posts.size() - 1);
+        String nextCursor = hasNext && latestOrder
+                ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode()
+                : null;
+
+        // Post -> PostResponse 매핑 (이미지/댓글 수를 게시글 ID 목록으로 일괄 조회)
+        return new FeedPage(hydrateShared(posts), nextCursor);
+    }
+
+    /**
+     * 인메모리 색인으로 키워드 검색
+     * - 색인에서 관련도 순 게시글 ID 와 전체 일치 건수를 구하고, 해당 페이지의 게시글만 ID 로 조회한다.
+     */
+    private GetPostsResponse searchPosts(PostSearchService postSearchService, String keyword,
+                                         int page, int size, boolean withTotal, String loginUserEmail) {
+        int offset = (page - 1) * size;
+        PostSearchResult result = postSearchService.search(keyword, offset, size);
+
+        return GetPostsResponse.builder()
+                .page(page)
+                .size(size)
+                .totalCount(withTotal ? (long) result.getTotalCount() : null)
+                .nextCursor(null)
+                .posts(hydrate(findPostsInOrder(result.getPostIds()), loginUserEmail))
                 .build();
     }
 
+    /**
+     * 인기순 목록 조회 (인메모리 랭킹)
+     * - 랭킹에서 해당 페이지의 게시글 ID 만 O(log n + size) 로 꺼내고, 그 게시글만 ID 로 조회한다.
+     */
+    private GetPostsResponse getPopularPosts(int page, int size, boolean withTotal, String loginUserEmail) {
+        int offset = (page - 1) * size;
+        List<Long> postIds = popularPostRanking.findPostIds(offset, size);
+
+        return GetPostsResponse.builder()
+                .page(page)
+                .size(size)
+                .totalCount(withTotal ? (long) popularPostRanking.size() : null)
+                .nextCursor(null)
+                .posts(hydrate(findPostsInOrder(postIds), loginUserEmail))
+                .build();
+    }
+
+    /**
+     * 팔로잉 피드 조회
+     * - GET /api/feed/following
+     * - 팔로우한 사용자의 게시글을 최신순으로, 게시글 ID 커서로 이어서 조회한다.
+     */
+    public GetPostsResponse getFollowingFeed(GetFollowingFeedRequest request, String loginUserEmail) {
+        int size = Math.max(1, Math.min(request.getSize(), MAX_FOLLOWING_FEED_SIZE));
+        Long beforeId = decodePostIdCursor(request.getCursor());
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1 건
+        List<Long> postIds = homeTimeline.findPostIds(loginUserEmail, beforeId, size + 1);
+        boolean hasNext = postIds.size() > size;
+        List<Long> pageIds = hasNext ? postIds.subList(0, size) : postIds;
+        String nextCursor = hasNext ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null;
+
+        return GetPostsResponse.builder()
+                .page(0)
+                .size(size)
+                .totalCount(null)
+                .nextCursor(nextCursor)
+                .posts(hydrate(findPostsInOrder(pageIds), loginUserEmail))
+                .build();
+    }
+
+    private static Long decodePostIdCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "커서 값이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 게시글 ID 목록 순서대로 게시글을 조회한다.
+     * - IN 조회 결과는 순서가 보장되지 않으므로 postIds 순서로 다시 정렬한다.
+     * - 그 사이 삭제되어 조회되지 않는 게시글은 건너뛴다.
+     */
+    private List<Post> findPostsInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<Long, Post> postById = postMapper.findByIds(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return postIds.stream()
+                .map(postById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * 게시글 상세 조회
      * - GET /api/posts/{postId}
+     *
+     * @param countView 조회수에 넣을지 (조건부 재요청이면 false : 자기 조회 때문에 ETag 가 매번 바뀌지 않게)
      */
-    public PostResponse getPost(Long postId, String loginUserEmail) {
+    public PostResponse getPost(Long postId, String loginUserEmail, boolean countView) {
         // 1) 게시글 조회
         Post post = postMapper.findById(postId);
         if (post == null) {
             throw new BusinessException(ErrorCode.POST_NOT_FOUND);
         }
 
-        // 2) 이미지 목록 조회
-        List<PostImage> postImages = postImageMapper.findByPostId(postId);
-        List<String> imageUrls = postImages.stream()
-                .map(PostImage::getImageUrl)
-                .toList();
+        // 2) 이미지 / 댓글 수 / 좋아요 여부 / 조회수를 붙여서 응답 생성
+        //    (조회수는 ETag 와 같은 시점 값이 되도록 이번 조회를 기록하기 전에 읽는다)
+        PostResponse response = hydrate(List.of(post), loginUserEmail).get(0);
 
-        // 3) 댓글 개수 조회
-        long commentCount = postCommentMapper.countByPostId(postId);
-
-        // 4) 좋아요 개수 (posts.likes)
-        int likeCount = post.getLikes();
+        // 3) 조회수 기록 (메모리에 모았다가 주기적으로 반영)
+        if (countView) {
+            postViewTracker.record(postId, loginUserEmail);
+        }
+        return response;
+    }
 
-        // 5) 현재 유저가 좋아요 눌렀는지 여부
-        boolean isLikedByMe =  postLikeMapper.existsByPostIdAndAuthorEmail(postId, loginUserEmail);
+    /**
+     * 게시글 상세 응답의 ETag (조건부 GET 용)
+     * - posts.version(수정/댓글/좋아요 수 반영 시 +1) + 아직 반영되지 않은 좋아요 증감 + 로그인 사용자의 좋아요 여부
+     *   + 조회수 / 순 조회자 수 (응답에 포함되므로 바뀌면 304 를 내려주지 않는다)
+     *   조건부 재요청은 조회수에 넣지 않으므로, 다른 사용자가 보지 않았으면 같은 클라이언트의 다음 재요청은 304 가 된다.
+     * - PK 로 version 한 컬럼만 읽고 조회수는 PostViewTracker 메모리 값을 쓰므로,
+     *   바뀌지 않았으면 본문(content)/이미지 조회 없이 304 로 끝난다.
+     *
+     * @return 게시글이 없으면 null (본문 조회에서 404 처리)
+     */
+    public String getPostETag(Long postId, String loginUserEmail) {
+        Long version = postMapper.findVersion(postId);
+        if (version == null) {
+            return null;
+        }
+        long pendingLikes = likeCounter.pendingDelta(postId);
+        boolean liked = loginUserEmail != null && likedPostsCache.isLiked(loginUserEmail, postId);
+        PostViewCount views = postViewTracker.findCounts(List.of(postId))
+                .getOrDefault(postId, PostViewCount.ZERO);
+        return "\"p" + postId + "-" + version + "-" + pendingLikes + "-" + (liked ? 1 : 0)
+                + "-" + views.viewCount() + "-" + views.uniqueViewerCount() + "\"";
+    }
 
-        return PostResponse.builder()
-                .postId(post.getId())
-                .authorId(null)                 // TODO: User 도메인 연동 후 세팅
-                .authorUsername(null)
-                .authorProfileImageUrl(null)
-                .title(post.getTitle())
-                .content(post.getContent())
-                .images(imageUrls)
-                .likeCount(likeCount)
-                .commentCount((int) commentCount)
-                .isLikedByMe(isLikedByMe)
-                .createdAt(post.getCreatedAt())
-                .updatedAt(null)
-                .build();
+    /**
+     * 게시글 실시간 이벤트(댓글 작성/삭제, 좋아요) 구독
+     * - GET /api/posts/{postId}/stream (text/event-stream)
+     */
+    public SseEmitter subscribe(Long postId) {
+        if (postMapper.findVersion(postId) == null) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+        return postStreamHub.subscribe(postId);
     }
 
     /**
@@ -163,29 +327,23 @@ public class PostService {
                 .content(request.getContent())
                 .createdAt(LocalDateTime.now())
                 .likes(0)
+                .commentCount(0)
                 .build();
 
         // 2) posts 테이블 INSERT (id 자동 생성)
         postMapper.insert(post); // useGeneratedKeys="true" 로 인해 post.id 세팅됨
         Long postId = post.getId();
+        eventPublisher.publishEvent(PostEvent.created(post));
 
-        // 3) 이미지가 있다면 post_images에 INSERT
+        // 3) 이미지가 있다면 post_images에 한 번에 INSERT
         List<String> images = request.getImages() != null ? request.getImages() : Collections.emptyList();
-        int orderIndex = 1;
-        for (String imageUrl : images) {
-            PostImage postImage = PostImage.builder()
-                    .postId(postId)
-                    .imageUrl(imageUrl)
-                    .orderIndex(orderIndex++)
-                    .build();
-            postImageMapper.insert(postImage);
-        }
+        PostImageDiff.of(postId, Collections.emptyList(), images).applyTo(postImageMapper);
 
         return PostResponse.builder()
                 .postId(postId)
-                .authorId(null)               // TODO: User 도메인 연동 후 세팅
-                .authorUsername(null)
-                .authorProfileImageUrl(null)
+                .authorId(null)               // accounts 에 숫자 ID 없음
+                .authorUsername(usernameOf(authorSummaryService.findByEmail(loginUserEmail)))
+                .authorProfileImageUrl(null)  // 프로필 이미지 컬럼 없음
                 .title(post.getTitle())
                 .content(post.getContent())
                 .images(images)
@@ -222,35 +380,31 @@ public class PostService {
                 .content(request.getContent())
                 .build();
         postMapper.update(post);
+        eventPublisher.publishEvent(PostEvent.updated(post));
 
-        // 3) 이미지 -> 기존 이미지 삭제 후 새로 저장
-        postImageMapper.deleteByPostId(postId);
+        // 3) 이미지 -> 기존 이미지와 비교해서 바뀐 자리만 upsert, 줄어든 뒷자리는 삭제 (그대로면 쓰기 없음)
         List<String> images = request.getImages() != null ? request.getImages() : Collections.emptyList();
-        int orderIndex = 1;
-        for (String imageUrl : images) {
-            PostImage postImage = PostImage.builder()
-                    .postId(postId)
-                    .imageUrl(imageUrl)
-                    .orderIndex(orderIndex++)
-                    .build();
-            postImageMapper.insert(postImage);
-        }
+        PostImageDiff.of(postId, postImageMapper.findByPostId(postId), images).applyTo(postImageMapper);
 
-        // 4) 댓글 수, 좋아요 수, isLikedByMe 다시 조회
-        long commentCount = postCommentMapper.countByPostId(postId);
-        int likeCount = existing.getLikes();
-        boolean isLikedByMe =   postLikeMapper.existsByPostIdAndAuthorEmail(postId, loginUserEmail);
+        // 4) 댓글 수, 좋아요 수는 기존 게시글 행 값 사용, isLikedByMe 다시 조회
+        int commentCount = existing.getCommentCount();
+        int likeCount = (int) Math.max(0, existing.getLikes() + likeCounter.pendingDelta(postId));
+        boolean isLikedByMe = likedPostsCache.isLiked(loginUserEmail, postId);
+        PostViewCount views = postViewTracker.findCounts(List.of(postId))
+                .getOrDefault(postId, PostViewCount.ZERO);
 
         return PostResponse.builder()
                 .postId(postId)
                 .authorId(null)
-                .authorUsername(null)
+                .authorUsername(usernameOf(authorSummaryService.findByEmail(existing.getAuthorEmail())))
                 .authorProfileImageUrl(null)
                 .title(request.getTitle())
                 .content(request.getContent())
                 .images(images)
                 .likeCount(likeCount)
-                .commentCount((int) commentCount)
+                .commentCount(commentCount)
+                .viewCount(views.viewCount())
+                .uniqueViewerCount(views.uniqueViewerCount())
                 .isLikedByMe(isLikedByMe)
                 .createdAt(existing.getCreatedAt())
                 .updatedAt(null)
@@ -274,13 +428,12 @@ public class PostService {
             throw new BusinessException(ErrorCode.POST_FORBIDDEN);
         }
 
-        // 1) 연관 데이터 삭제
-        postImageMapper.deleteByPostId(postId);
-        postCommentMapper.deleteByPostId(postId);
-        // TODO: post_likes 전체 삭제용 메서드(PostLikeMapper.deleteByPostId) 추가해서 호출하면 더 깔끔함
-
-        // 2) 게시글 삭제
-        postMapper.delete(postId);
+        // 삭제 표시만 하고 바로 응답 (이후 모든 조회에서 제외)
+        // - 좋아요/댓글/이미지와 게시글 행은 DeletedPostPurger 가 작은 단위로 나눠서 지운다.
+        if (postMapper.softDelete(postId, LocalDateTime.now()) == 0) {
+            return;
+        }
+        eventPublisher.publishEvent(PostEvent.deleted(postId));
     }
 
     /**
@@ -308,8 +461,8 @@ public class PostService {
                 .createdAt(LocalDateTime.now())
                 .build());
 
-        // 3) posts.likes +1
-        postMapper.increaseLikes(postId);
+        // 4) posts.likes +1 : 커밋 이후 LikeCounter 가 모아서 일괄 반영
+        eventPublisher.publishEvent(PostLikeEvent.liked(postId, loginUserEmail));
     }
 
     /**
@@ -333,7 +486,121 @@ public class PostService {
         // 3) post_likes 에서 삭제
         postLikeMapper.deleteByPostIdAndAuthorEmail(postId, loginUserEmail);
 
-        // 4) posts.likes -1
-        postMapper.decreaseLikes(postId);
+        // 4) posts.likes -1 : 커밋 이후 LikeCounter 가 모아서 일괄 반영
+        eventPublisher.publishEvent(PostLikeEvent.unliked(postId, loginUserEmail));
+    }
+
+    /**
+     * 검색 키워드를 MySQL FULLTEXT BOOLEAN MODE 검색식으로 변환한다.
+     * - 불리언 연산자로 해석되는 특수문자는 제거한다.
+     * - 공백으로 구분된 단어는 모두 포함되어야 한다. (AND)
+     * - ngram 토큰(2글자)보다 짧은 한 글자 단어는 접두어 검색으로 처리한다.
+     *
+     * @param keyword 사용자가 입력한 검색어
+     * @return 검색식, 유효한 단어가 없으면 null (키워드 조건 없음)
+     */
+    private static String toFullTextQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String sanitized = keyword.replaceAll("[+\\-<>()~*\"@]", " ").trim();
+        if (sanitized.isEmpty()) {
+            return null;
+        }
+
+        StringJoiner query = new StringJoiner(" ");
+        for (String word : sanitized.split("\\s+")) {
+            query.add(word.length() >= 2 ? "+\"" + word + "\"" : "+" + word + "*");
+        }
+        return query.toString();
+    }
+
+    /**
+     * 게시글 목록을 PostResponse 목록으로 변환한다. (로그인 사용자의 좋아요 여부 포함)
+     * - 반환 순서는 입력 posts 순서를 그대로 따른다.
+     */
+    private List<PostResponse> hydrate(List<Post> posts, String loginUserEmail) {
+        return applyLiveFields(hydrateShared(posts), loginUserEmail);
+    }
+
+    /**
+     * 게시글 목록을 사용자와 무관한 PostResponse 목록으로 변환한다. (isLikedByMe = false)
+     * - 이미지는 게시글 수와 무관하게 한 번의 쿼리로 조회한다.
+     * - 좋아요 수 / 댓글 수는 posts 행의 likes / comment_count 를 그대로 사용한다.
+     * - 반환 순서는 입력 posts 순서를 그대로 따른다.
+     */
+    private List<PostResponse> hydrateShared(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .toList();
+
+        // 작성자 요약 (페이지의 작성자들을 한 번에, 캐시에 없는 것만 조회)
+        Map<String, AuthorSummary> authors = authorSummaryService.findByEmails(posts.stream()
+                .map(Post::getAuthorEmail)
+                .toList());
+
+        // 이미지 목록 (post_id, order_index 순으로 정렬되어 내려옴)
+        Map<Long, List<String>> imageUrlsByPostId = new HashMap<>();
+        for (PostImage postImage : postImageMapper.findByPostIds(postIds)) {
+            imageUrlsByPostId.computeIfAbsent(postImage.getPostId(), id -> new ArrayList<>())
+                    .add(postImage.getImageUrl());
+        }
+
+        return posts.stream()
+                .map(post -> PostResponse.builder()
+                        .postId(post.getId())
+                        .authorId(null)
+                        .authorUsername(usernameOf(authors.get(post.getAuthorEmail())))
+                        .authorProfileImageUrl(null)
+                        .title(post.getTitle())
+                        .content(post.getContent())
+                        .images(imageUrlsByPostId.getOrDefault(post.getId(), Collections.emptyList()))
+                        .likeCount(post.getLikes())
+                        .commentCount(post.getCommentCount())
+                        .isLikedByMe(false)
+                        .createdAt(post.getCreatedAt())
+                        .updatedAt(null)
+                        .build())
+                .toList();
+    }
+
+    private static String usernameOf(AuthorSummary author) {
+        return author != null ? author.getUsername() : null;
+    }
+
+    /**
+     * 요청 시점에 달라지는 값을 덮어쓴 새 목록을 반환한다.
+     * - likeCount : DB 값 + LikeCounter 에 모여 있는 아직 반영되지 않은 증감
+     * - isLikedByMe : 로그인 사용자가 좋아요 누른 게시글만 true (LikedPostsCache 에서 메모리 조회)
+     * - viewCount / uniqueViewerCount : post_view_stats + 아직 반영되지 않은 조회 (PostViewTracker, 페이지당 조회 한 번)
+     * - 입력 목록(캐시에 들어 있을 수 있음)은 변경하지 않고, 복사본에 덮어쓴다.
+     */
+    private List<PostResponse> applyLiveFields(List<PostResponse> postResponses, String loginUserEmail) {
+        if (postResponses.isEmpty()) {
+            return postResponses;
+        }
+        List<Long> postIds = postResponses.stream()
+                .map(PostResponse::getPostId)
+                .toList();
+        Set<Long> likedPostIds = loginUserEmail != null
+                ? likedPostsCache.findLikedAmong(loginUserEmail, postIds)
+                : Collections.emptySet();
+        Map<Long, PostViewCount> viewCounts = postViewTracker.findCounts(postIds);
+
+        List<PostResponse> result = new ArrayList<>(postResponses.size());
+        for (PostResponse response : postResponses) {
+            long pendingLikes = likeCounter.pendingDelta(response.getPostId());
+            PostViewCount views = viewCounts.getOrDefault(response.getPostId(), PostViewCount.ZERO);
+            result.add(response.toBuilder()
+                    .likeCount((int) Math.max(0, response.getLikeCount() + pendingLikes))
+                    .isLikedByMe(likedPostIds.contains(response.getPostId()))
+                    .viewCount(views.viewCount())
+                    .uniqueViewerCount(views.uniqueViewerCount())
+                    .build());
+        }
+        return result;
     }
 }
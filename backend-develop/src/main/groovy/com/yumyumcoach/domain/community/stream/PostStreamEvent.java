@@ -0,0 +1,16 @@
+package com.yumyumcoach.domain.community.stream;
+
+/**
+ * 게시글 스트림(SSE)으로 내려보내는 이벤트.
+ * - SSE event 이름은 type, data 는 이 객체의 JSON
+ *
+ * @param type      comment-created / comment-deleted / like
+ * @param postId    게시글 ID
+ * @param commentId 댓글 이벤트의 댓글 ID (좋아요 이벤트에서는 null)
+ * @param delta     댓글 수 / 좋아요 수 증감 (+1 / -1)
+ */
+public record PostStreamEvent(String type, Long postId, Long commentId, int delta) {
+    public static final String COMMENT_CREATED = "comment-created";
+    public static final String COMMENT_DELETED = "comment-deleted";
+    public static final String LIKE = "like";
+}
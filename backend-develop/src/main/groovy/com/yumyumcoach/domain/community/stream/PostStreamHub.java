@@ -0,0 +1,254 @@
+package com.yumyumcoach.domain.community.stream;
+
+import com.yumyumcoach.domain.community.event.CommentEvent;
+import com.yumyumcoach.domain.community.event.PostLikeEvent;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글별 실시간 이벤트(댓글 작성/삭제, 좋아요) SSE 구독 관리.
+ * - 댓글/좋아요 트랜잭션이 커밋되면(CommentEvent, PostLikeEvent) 해당 게시글 구독자들의 큐에 넣는다.
+ * - 구독자 연결은 서블릿 비동기 요청(SseEmitter)이라 대기 중에는 요청 스레드를 잡지 않는다.
+ *   실제 전송은 DISPATCH_THREADS 개의 전송 스레드가 큐를 비우면서 한다.
+ * - 구독자마다 큐는 QUEUE_CAPACITY 개로 제한하고, 가득 차면(느린 구독자) 연결을 끊는다. 클라이언트는 재연결 후 목록을 다시 받는다.
+ * - 전송 한 번이 SEND_TIMEOUT_MILLIS 를 넘기면(소켓이 막힌 구독자) 구독을 빼고 전송 스레드를 인터럽트해 연결을 끊는다.
+ *   막힌 소켓 하나가 공유 전송 스레드를 잡아 다른 구독자 전송까지 멈추지 않게 한다.
+ * - 하트비트는 HEARTBEAT_INTERVAL_MILLIS 동안 아무것도 보내지 않은 구독자에게만 보낸다. (이벤트가 하트비트를 대신함)
+ */
+@Slf4j
+@Component
+public class PostStreamHub {
+    public static final int MAX_SUBSCRIBERS = 50_000;
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 25_000;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int DISPATCH_THREADS = 4;
+    private static final long SEND_TIMEOUT_MILLIS = 5_000;
+
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribersByPostId = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    /**
+     * 지금 전송 중인 구독자 (최대 DISPATCH_THREADS 명)
+     */
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong stalledEvictions = new AtomicLong();
+    private final ExecutorService dispatcher = Executors.newFixedThreadPool(DISPATCH_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "post-stream-dispatch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 게시글 이벤트를 구독한다.
+     * - 구독자 수가 MAX_SUBSCRIBERS 에 도달했으면 503(POST_STREAM_UNAVAILABLE)
+     */
+    public SseEmitter subscribe(Long postId) {
+        if (subscriberCount.incrementAndGet() > MAX_SUBSCRIBERS) {
+            subscriberCount.decrementAndGet();
+            throw new BusinessException(ErrorCode.POST_STREAM_UNAVAILABLE);
+        }
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        Subscriber subscriber = new Subscriber(postId, emitter);
+        subscribersByPostId.computeIfAbsent(postId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 연결 직후 한 번 보내서 응답 헤더를 내려보낸다.
+        subscriber.enqueue(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentEvent(CommentEvent event) {
+        String type = event.getType() == CommentEvent.Type.CREATED
+                ? PostStreamEvent.COMMENT_CREATED
+                : PostStreamEvent.COMMENT_DELETED;
+        publish(new PostStreamEvent(type, event.getPostId(), event.getCommentId(), event.delta()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostLikeEvent(PostLikeEvent event) {
+        publish(new PostStreamEvent(PostStreamEvent.LIKE, event.getPostId(), null, event.delta()));
+    }
+
+    /**
+     * 최근에 아무것도 보내지 않은 구독자에게만 하트비트를 보낸다. (프록시 유휴 타임아웃 방지)
+     */
+    @Scheduled(fixedDelay = HEARTBEAT_INTERVAL_MILLIS)
+    public void sendHeartbeats() {
+        long idleSince = System.currentTimeMillis() - HEARTBEAT_INTERVAL_MILLIS;
+        for (Set<Subscriber> subscribers : subscribersByPostId.values()) {
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.lastSentAt < idleSince && subscriber.queue.isEmpty()) {
+                    subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        }
+    }
+
+    /**
+     * SEND_TIMEOUT_MILLIS 넘게 전송이 끝나지 않은 구독자를 끊는다.
+     */
+    @Scheduled(fixedDelay = SEND_TIMEOUT_MILLIS / 5)
+    public void evictStalledSenders() {
+        long stalledBefore = System.currentTimeMillis() - SEND_TIMEOUT_MILLIS;
+        for (Subscriber subscriber : sending) {
+            if (subscriber.evictIfStalled(stalledBefore)) {
+                stalledEvictions.incrementAndGet();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    public void logStats() {
+        log.info("게시글 스트림 : 구독자 {}명, 게시글 {}개, 전송 지연으로 끊은 구독자 누적 {}명",
+                subscriberCount.get(), subscribersByPostId.size(), stalledEvictions.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribersByPostId.values().forEach(subscribers -> subscribers.forEach(s -> s.emitter.complete()));
+    }
+
+    private void publish(PostStreamEvent event) {
+        Set<Subscriber> subscribers = subscribersByPostId.get(event.postId());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(SseEmitter.event().name(event.type()).data(event));
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribersByPostId.computeIfPresent(subscriber.postId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * 구독자 한 명 : 전송 대기 큐 + 전송 스레드 예약 여부 + 진행 중인 전송
+     */
+    private final class Subscriber {
+        final Long postId;
+        final SseEmitter emitter;
+        final ArrayBlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+        volatile long lastSentAt = System.currentTimeMillis();
+
+        /**
+         * 진행 중인 전송의 시작 시각과 전송 스레드 (this 로 동기화, 전송 중이 아니면 null)
+         */
+        private long sendStartedAt;
+        private Thread sender;
+
+        Subscriber(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                // 느린 구독자 : 이벤트를 쌓아 두지 않고 연결을 끊는다.
+                // (전송 중일 수 있으므로 emitter 는 이 스레드에서 닫지 않고 drain 에서 닫는다)
+                remove(this);
+                if (scheduled.compareAndSet(false, true)) {
+                    dispatcher.execute(this::drain);
+                }
+                return;
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        /**
+         * 큐를 비운다. 한 구독자의 drain 은 동시에 하나만 실행된다.
+         */
+        void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    send(event);
+                    lastSentAt = System.currentTimeMillis();
+                }
+            } catch (IOException | RuntimeException e) {
+                remove(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (closed.get()) {
+                // 큐가 넘쳤거나 전송 지연으로 구독이 빠졌다.
+                emitter.complete();
+                return;
+            }
+            // 예약 해제 직전에 들어온 이벤트
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            synchronized (this) {
+                sendStartedAt = System.currentTimeMillis();
+                sender = Thread.currentThread();
+            }
+            sending.add(this);
+            try {
+                emitter.send(event);
+            } finally {
+                sending.remove(this);
+                synchronized (this) {
+                    sender = null;
+                    // 전송이 끝난 뒤 도착한 인터럽트가 다음 구독자 전송에 남지 않게 지운다.
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        /**
+         * stalledBefore 이전에 시작한 전송이 아직 진행 중이면 구독을 빼고 전송 스레드를 인터럽트한다.
+         * - emitter 정리(completeWithError)는 전송 스레드의 drain 에서 한다. (전송 중인 emitter 를 다른 스레드에서 닫으면 기다리게 된다)
+         */
+        synchronized boolean evictIfStalled(long stalledBefore) {
+            if (sender == null || sendStartedAt >= stalledBefore) {
+                return false;
+            }
+            remove(this);
+            sender.interrupt();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.yumyumcoach.domain.community.timeline;
+
+import com.yumyumcoach.domain.community.entity.Post;
+import com.yumyumcoach.domain.community.event.PostEvent;
+import com.yumyumcoach.domain.community.mapper.FollowMapper;
+import com.yumyumcoach.domain.community.mapper.PostMapper;
+import com.yumyumcoach.domain.community.mapper.TimelineMapper;
+import com.yumyumcoach.global.cache.BoundedCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 팔로잉 피드(홈 타임라인).
+ * - 게시글이 작성되면(커밋 이후) 작성자의 팔로워마다 timeline_entries 에 게시글 ID 를 넣는다. (fan-out-on-write)
+ *   요청 스레드를 잡지 않도록 fan-out 전용 스레드에서 새 트랜잭션(REQUIRES_NEW)으로 쓰고,
+ *   커밋된 뒤에 최근에 피드를 본 팔로워의 메모리 TimelineBuffer 에도 넣는다.
+ *   대기열(FANOUT_QUEUE_CAPACITY)이 차면 요청 스레드에서 직접 처리한다.
+ * - 팔로워가 CELEBRITY_FOLLOWERS 명 이상인 작성자는 넣지 않고, 조회할 때 그 작성자의 최근 글을 posts 에서 읽어 합친다.
+ *   (fan-out-on-read, 한 번 쓰기가 수만 행이 되는 것을 막는다)
+ * - 조회는 메모리 버퍼 → 없으면 timeline_entries 에서 최근 BUFFER_CAPACITY 개를 읽어 버퍼를 만든다.
+ *   버퍼보다 깊은 페이지는 timeline_entries 를 바로 조회한다.
+ * - 버퍼를 읽어 오는 도중 그 사용자에게 새 글이 들어오면 읽은 값을 저장하지 않는다. (LikedPostsCache 와 같은 버전 슬롯)
+ * - 팔로우 API 가 아직 없어서, 팔로우 시점 이전 글을 채워 넣는 작업(backfill)은 하지 않는다.
+ */
+@Slf4j
+@Component
+public class HomeTimeline {
+    static final long CELEBRITY_FOLLOWERS = 10_000;
+
+    private static final int BUFFER_CAPACITY = 200;
+    private static final long MAX_BUFFERED_USERS = 10_000;
+    private static final Duration BUFFER_TTL = Duration.ofMinutes(30);
+    private static final int INSERT_CHUNK_SIZE = 1_000;
+    private static final int VERSION_SLOTS = 1024;
+    private static final int FANOUT_QUEUE_CAPACITY = 10_000;
+    private static final long SHUTDOWN_WAIT_SECONDS = 10;
+
+    private final FollowMapper followMapper;
+    private final TimelineMapper timelineMapper;
+    private final PostMapper postMapper;
+    private final TransactionTemplate fanOutTransaction;
+
+    private final ThreadPoolExecutor fanOutExecutor = new ThreadPoolExecutor(
+            1, 1, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(FANOUT_QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "home-timeline-fanout");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+
+    private final BoundedCache<String, TimelineBuffer> buffers =
+            BoundedCache.ofSize(MAX_BUFFERED_USERS, BUFFER_TTL);
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS);
+
+    /**
+     * 팔로워가 많아서 fan-out 하지 않는 작성자 이메일
+     */
+    private volatile Set<String> celebrities = Set.of();
+
+    public HomeTimeline(FollowMapper followMapper,
+                        TimelineMapper timelineMapper,
+                        PostMapper postMapper,
+                        TransactionTemplate transactionTemplate) {
+        this.followMapper = followMapper;
+        this.timelineMapper = timelineMapper;
+        this.postMapper = postMapper;
+
+        // AFTER_COMMIT 시점에는 원래 트랜잭션이 끝났으므로 항상 새 트랜잭션으로 쓴다.
+        this.fanOutTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.fanOutTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 팔로잉 피드 게시글 ID (최신순)
+     *
+     * @param beforeId 이 ID 보다 작은 게시글부터 (null 이면 가장 최신부터)
+     */
+    public List<Long> findPostIds(String email, Long beforeId, int limit) {
+        List<Long> fannedOut = findFannedOut(email, beforeId, limit);
+
+        Set<String> current = celebrities;
+        if (current.isEmpty()) {
+            return fannedOut;
+        }
+        List<String> celebrityFollowees = followMapper.findFolloweeEmails(email).stream()
+                .filter(current::contains)
+                .toList();
+        if (celebrityFollowees.isEmpty()) {
+            return fannedOut;
+        }
+        List<Long> pulled = postMapper.findPostIdsByAuthors(celebrityFollowees, beforeId, limit);
+        return mergeNewestFirst(fannedOut, pulled, limit);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPostEvent(PostEvent event) {
+        if (event.getType() != PostEvent.Type.CREATED) {
+            return;
+        }
+        Post post = event.getPost();
+        fanOutExecutor.execute(() -> {
+            try {
+                fanOut(post);
+            } catch (RuntimeException e) {
+                log.warn("팔로잉 피드 fan-out 실패 (postId={})", post.getId(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        fanOutExecutor.shutdown();
+        if (!fanOutExecutor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("팔로잉 피드 fan-out {}건을 처리하지 못하고 종료합니다.", fanOutExecutor.shutdownNow().size());
+        }
+    }
+
+    private void fanOut(Post post) {
+        String author = post.getAuthorEmail();
+        if (followMapper.countFollowers(author) >= CELEBRITY_FOLLOWERS) {
+            addCelebrity(author);
+            return;
+        }
+
+        List<String> followers = followMapper.findFollowerEmails(author);
+        fanOutTransaction.executeWithoutResult(status -> {
+            for (int from = 0; from < followers.size(); from += INSERT_CHUNK_SIZE) {
+                List<String> chunk = followers.subList(from, Math.min(from + INSERT_CHUNK_SIZE, followers.size()));
+                timelineMapper.insertEntries(chunk, post.getId(), post.getCreatedAt());
+            }
+        });
+        for (String follower : followers) {
+            versions.incrementAndGet(slot(follower));
+            TimelineBuffer buffer = buffers.get(follower);
+            if (buffer != null) {
+                buffer.push(post.getId());
+            }
+        }
+    }
+
+    /**
+     * 기동 직후 + 주기적으로 팔로워가 많은 작성자 목록을 다시 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void refreshCelebrities() {
+        celebrities = Set.copyOf(followMapper.findFolloweeEmailsWithFollowersAtLeast(CELEBRITY_FOLLOWERS));
+        log.info("팔로잉 피드 : fan-out 제외 작성자 {}명, 버퍼 {}", celebrities.size(), buffers.stats());
+    }
+
+    private synchronized void addCelebrity(String email) {
+        if (!celebrities.contains(email)) {
+            Set<String> changed = new HashSet<>(celebrities);
+            changed.add(email);
+            celebrities = Set.copyOf(changed);
+        }
+    }
+
+    /**
+     * fan-out 으로 쌓인 게시글 ID : 메모리 버퍼에서 찾고, 버퍼보다 깊으면 DB 에서 찾는다.
+     */
+    private List<Long> findFannedOut(String email, Long beforeId, int limit) {
+        TimelineBuffer buffer = getOrLoad(email);
+        List<Long> postIds = buffer.findBefore(beforeId, limit);
+        if (postIds.size() >= limit || !buffer.isTruncated()) {
+            return postIds;
+        }
+        return timelineMapper.findPostIds(email, beforeId, limit);
+    }
+
+    private TimelineBuffer getOrLoad(String email) {
+        TimelineBuffer buffer = buffers.get(email);
+        if (buffer != null) {
+            return buffer;
+        }
+
+        int slot = slot(email);
+        long readVersion = versions.get(slot);
+        List<Long> recent = timelineMapper.findPostIds(email, null, BUFFER_CAPACITY);
+        buffer = TimelineBuffer.of(BUFFER_CAPACITY, recent, recent.size() >= BUFFER_CAPACITY);
+        if (versions.get(slot) == readVersion) {
+            buffers.put(email, buffer);
+            // 저장하는 사이에 새 글이 들어왔으면 방금 넣은 값을 버린다.
+            if (versions.get(slot) != readVersion) {
+                buffers.invalidate(email);
+            }
+        }
+        return buffer;
+    }
+
+    private static List<Long> mergeNewestFirst(List<Long> a, List<Long> b, int limit) {
+        List<Long> merged = new ArrayList<>(limit);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < a.size() || j < b.size())) {
+            long next;
+            if (j >= b.size() || (i < a.size() && a.get(i) >= b.get(j))) {
+                next = a.get(i++);
+            } else {
+                next = b.get(j++);
+            }
+            if (merged.isEmpty() || merged.get(merged.size() - 1) != next) {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    private static int slot(String email) {
+        return (email.hashCode() & 0x7fffffff) % VERSION_SLOTS;
+    }
+}
@@ -0,0 +1,89 @@
+package com.yumyumcoach.domain.community.timeline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 한 명의 홈 타임라인 (최근 게시글 ID 링 버퍼).
+ * - 게시글 ID 오름차순으로 가장 최근 capacity 개만 유지한다. 가득 차면 가장 오래된 ID 자리를 덮어쓴다.
+ * - 보통은 가장 큰 ID 가 들어오므로 O(1), 커밋 순서가 뒤바뀐 경우에만 제자리를 찾아 밀어 넣는다.
+ * - truncated : 밀려난 ID 가 있거나 DB 에 더 오래된 항목이 남아 있을 수 있음 (더 깊은 페이지는 DB 에서 조회)
+ */
+class TimelineBuffer {
+    private final long[] postIds;
+    private int start;
+    private int size;
+    private boolean truncated;
+
+    TimelineBuffer(int capacity) {
+        this.postIds = new long[capacity];
+    }
+
+    /**
+     * DB 에서 읽은 최근 게시글 ID (내림차순) 로 채운 버퍼
+     *
+     * @param truncated 읽은 것보다 오래된 항목이 DB 에 더 있을 수 있는지
+     */
+    static TimelineBuffer of(int capacity, List<Long> newestFirst, boolean truncated) {
+        TimelineBuffer buffer = new TimelineBuffer(capacity);
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            buffer.push(newestFirst.get(i));
+        }
+        buffer.truncated |= truncated;
+        return buffer;
+    }
+
+    synchronized void push(long postId) {
+        // 들어갈 자리 (오름차순 유지)
+        int pos = size;
+        while (pos > 0 && get(pos - 1) > postId) {
+            pos--;
+        }
+        if (pos > 0 && get(pos - 1) == postId) {
+            return;
+        }
+        if (size == postIds.length) {
+            truncated = true;
+            if (pos == 0) {
+                // 남아 있는 어떤 ID 보다 오래된 ID
+                return;
+            }
+            start = (start + 1) % postIds.length;
+            size--;
+            pos--;
+        }
+        for (int i = size; i > pos; i--) {
+            set(i, get(i - 1));
+        }
+        set(pos, postId);
+        size++;
+    }
+
+    /**
+     * beforeId 보다 작은 게시글 ID 를 최신순으로 limit 개까지
+     *
+     * @param beforeId null 이면 가장 최신부터
+     */
+    synchronized List<Long> findBefore(Long beforeId, int limit) {
+        List<Long> result = new ArrayList<>(Math.min(limit, size));
+        for (int i = size - 1; i >= 0 && result.size() < limit; i--) {
+            long postId = get(i);
+            if (beforeId == null || postId < beforeId) {
+                result.add(postId);
+            }
+        }
+        return result;
+    }
+
+    synchronized boolean isTruncated() {
+        return truncated;
+    }
+
+    private long get(int index) {
+        return postIds[(start + index) % postIds.length];
+    }
+
+    private void set(int index, long postId) {
+        postIds[(start + index) % postIds.length] = postId;
+    }
+}
@@ -0,0 +1,99 @@
+package com.yumyumcoach.domain.community.view;
+
+import java.util.Arrays;
+
+/**
+ * HyperLogLog 고유 개수 추정 스케치.
+ * - 레지스터 2^PRECISION(1024)개 = 1KB 고정 크기, 표준 오차 약 3.3% (1.04 / sqrt(1024))
+ * - 같은 값을 여러 번 넣어도 결과가 같고, 두 스케치를 merge 하면 합집합의 스케치가 된다.
+ * - 작은 개수 구간은 linear counting 으로 보정한다.
+ */
+public class HyperLogLog {
+    public static final int PRECISION = 10;
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this(new byte[REGISTER_COUNT]);
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * toBytes() 로 저장한 스케치를 복원한다.
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != REGISTER_COUNT) {
+            return new HyperLogLog();
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    public synchronized void add(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // 남은 비트에서 처음 1 이 나오는 위치 (모두 0 이면 최대값이 되도록 경계 비트를 둔다)
+        long rest = (hash << PRECISION) | (1L << (PRECISION - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (registers[index] < rank) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * 다른 스케치를 이 스케치에 합친다. (레지스터별 최대값)
+     */
+    public synchronized void merge(HyperLogLog other) {
+        byte[] otherRegisters = other.toBytes();
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (registers[i] < otherRegisters[i]) {
+                registers[i] = otherRegisters[i];
+            }
+        }
+    }
+
+    /**
+     * 추정 고유 개수
+     */
+    public synchronized long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5 * REGISTER_COUNT && zeros > 0) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public synchronized byte[] toBytes() {
+        return Arrays.copyOf(registers, REGISTER_COUNT);
+    }
+
+    /**
+     * 64비트 해시 (FNV-1a 후 MurmurHash3 finalizer 로 비트를 고르게 섞는다)
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
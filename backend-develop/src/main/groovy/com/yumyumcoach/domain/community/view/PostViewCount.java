@@ -0,0 +1,11 @@
+package com.yumyumcoach.domain.community.view;
+
+/**
+ * 게시글 조회수
+ *
+ * @param viewCount         전체 조회수
+ * @param uniqueViewerCount 조회한 사용자 수 (HyperLogLog 추정값)
+ */
+public record PostViewCount(long viewCount, long uniqueViewerCount) {
+    public static final PostViewCount ZERO = new PostViewCount(0, 0);
+}
@@ -0,0 +1,304 @@
+package com.yumyumcoach.domain.community.view;
+
+import com.yumyumcoach.domain.community.entity.PostViewStat;
+import com.yumyumcoach.domain.community.mapper.PostViewStatMapper;
+import com.yumyumcoach.global.cache.BoundedCache;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 집계.
+ * - 조회마다 DB 에 쓰지 않고, 게시글별로 전체 조회수(LongAdder)와 조회한 사용자 HyperLogLog 스케치를 메모리에 모은다.
+ * - FLUSH_INTERVAL_MILLIS 마다 모인 값을 post_view_stats 에 반영한다.
+ *   게시글 FLUSH_CHUNK_SIZE 개씩 짧은 트랜잭션에서 행을 잠그고 읽어, 조회수는 더하고 스케치는 합쳐서 다시 쓴다.
+ * - 조회 시에는 DB 값에 아직 반영되지 않은 값(대기/반영 중)을 합쳐서 내려준다.
+ *   (반영 직후 반영 중 목록에서 빠지기 전까지 아주 짧게 중복될 수 있다)
+ * - DB 값은 STORED_TTL 동안 메모리에 둔다. 스케치(1KB)는 합칠 대기 값이 있는 게시글만 읽고,
+ *   나머지는 조회수 컬럼만 읽는다. 반영이 끝나면 반영한 값으로 바로 갈아 끼운다.
+ * - 게시글 하나의 메모리 비용은 스케치 1KB + 카운터로 고정이고, 마지막 반영 이후 조회된 게시글만 메모리에 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewTracker {
+    private static final long FLUSH_INTERVAL_MILLIS = 10_000;
+    private static final int FLUSH_CHUNK_SIZE = 500;
+    private static final long MAX_STORED_BYTES = 32L * 1024 * 1024;
+    private static final int STORED_ENTRY_OVERHEAD_BYTES = 64;
+    private static final Duration STORED_TTL = Duration.ofSeconds(30);
+
+    private final PostViewStatMapper postViewStatMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 아직 반영 대기 중인 조회 (게시글 ID → 누적값)
+     */
+    private final ConcurrentHashMap<Long, PendingViews> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 반영 중인 조회. 그동안 조회에서도 보이도록 따로 둔다.
+     */
+    private final ConcurrentHashMap<Long, PendingViews> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * DB 에 저장된 값 (게시글 ID → 조회수, 스케치는 읽었을 때만 있음)
+     */
+    private final BoundedCache<Long, PostViewStat> stored = new BoundedCache<>(
+            MAX_STORED_BYTES,
+            STORED_TTL,
+            (postId, stat) -> STORED_ENTRY_OVERHEAD_BYTES
+                    + (stat.getViewerSketch() != null ? stat.getViewerSketch().length : 0),
+            null
+    );
+
+    /**
+     * 반영 시작/끝마다 올린다. 읽기 시작 시점과 다르면 읽은 DB 값을 캐시에 넣지 않는다. (FeedPageCache 와 같은 방식)
+     */
+    private final AtomicLong epoch = new AtomicLong();
+
+    /**
+     * 게시글 조회 한 번을 기록한다.
+     *
+     * @param viewerEmail 조회한 사용자 (null 이면 전체 조회수만 올린다)
+     */
+    public void record(Long postId, String viewerEmail) {
+        while (true) {
+            PendingViews views = pending.computeIfAbsent(postId, id -> new PendingViews());
+            if (views.tryRecord(viewerEmail)) {
+                return;
+            }
+            // flush 가 막 가져간 누적값 : 새 누적값으로 다시 시도
+        }
+    }
+
+    /**
+     * 게시글별 조회수 (DB + 아직 반영되지 않은 값)
+     */
+    public Map<Long, PostViewCount> findCounts(List<Long> postIds) {
+        Map<Long, PostViewCount> result = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return result;
+        }
+        Map<Long, PostViewStat> stats = new HashMap<>();
+        List<Long> missingCounts = new ArrayList<>();
+        List<Long> missingSketches = new ArrayList<>();
+        for (Long postId : postIds) {
+            PostViewStat stat = stored.get(postId);
+            boolean needsSketch = pending.containsKey(postId) || inFlight.containsKey(postId);
+            if (stat != null && (!needsSketch || stat.getViewerSketch() != null)) {
+                stats.put(postId, stat);
+            } else if (needsSketch) {
+                missingSketches.add(postId);
+            } else {
+                missingCounts.add(postId);
+            }
+        }
+        if (!missingCounts.isEmpty() || !missingSketches.isEmpty()) {
+            stats.putAll(load(missingCounts, missingSketches));
+        }
+
+        for (Long postId : postIds) {
+            PostViewStat stat = stats.get(postId);
+            PendingViews waiting = pending.get(postId);
+            PendingViews flushing = inFlight.get(postId);
+            if (waiting == null && flushing == null) {
+                result.put(postId, new PostViewCount(stat.getViewCount(), stat.getUniqueViewerCount()));
+                continue;
+            }
+            long viewCount = stat.getViewCount();
+            // 스케치 없이 읽은 직후에 대기 값이 생긴 경우 : 순 조회자 수는 다음 조회부터 합친다.
+            HyperLogLog viewers = stat.getViewerSketch() != null ? HyperLogLog.fromBytes(stat.getViewerSketch()) : null;
+            for (PendingViews views : new PendingViews[]{waiting, flushing}) {
+                if (views != null) {
+                    viewCount += views.views.sum();
+                    if (viewers != null) {
+                        viewers.merge(views.viewers);
+                    }
+                }
+            }
+            result.put(postId, new PostViewCount(viewCount,
+                    viewers != null ? viewers.estimate() : stat.getUniqueViewerCount()));
+        }
+        return result;
+    }
+
+    /**
+     * 캐시에 없는 DB 값을 읽는다. 스케치는 합칠 대기 값이 있는 게시글만 읽는다.
+     * - DB 에 행이 없는 게시글은 0 으로 채운다. (빈 스케치로 저장해 다음에 다시 읽지 않는다)
+     */
+    private Map<Long, PostViewStat> load(List<Long> countsOnly, List<Long> withSketch) {
+        long readEpoch = epoch.get();
+        Map<Long, PostViewStat> loaded = new HashMap<>();
+        if (!countsOnly.isEmpty()) {
+            for (PostViewStat stat : postViewStatMapper.findCountsByPostIds(countsOnly)) {
+                loaded.put(stat.getPostId(), stat);
+            }
+            for (Long postId : countsOnly) {
+                loaded.computeIfAbsent(postId, PostViewTracker::emptyStat);
+            }
+        }
+        if (!withSketch.isEmpty()) {
+            for (PostViewStat stat : postViewStatMapper.findByPostIds(withSketch)) {
+                loaded.put(stat.getPostId(), stat);
+            }
+            for (Long postId : withSketch) {
+                loaded.computeIfAbsent(postId, PostViewTracker::emptyStat);
+            }
+        }
+
+        if (epoch.get() == readEpoch) {
+            loaded.forEach(stored::put);
+            // 저장하는 사이에 반영이 끼어들었으면 방금 넣은 값을 버린다.
+            if (epoch.get() != readEpoch) {
+                loaded.keySet().forEach(stored::invalidate);
+            }
+        }
+        return loaded;
+    }
+
+    private static PostViewStat emptyStat(Long postId) {
+        return PostViewStat.builder()
+                .postId(postId)
+                .viewCount(0)
+                .uniqueViewerCount(0)
+                .viewerSketch(new HyperLogLog().toBytes())
+                .build();
+    }
+
+    /**
+     * 모인 조회를 DB 에 반영한다.
+     * - 실패한 묶음은 다시 대기열로 돌려놓고 다음 주기에 재시도한다.
+     */
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public synchronized void flush() {
+        epoch.incrementAndGet();
+        Iterator<Map.Entry<Long, PendingViews>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, PendingViews> entry = it.next();
+            inFlight.put(entry.getKey(), entry.getValue());
+            it.remove();
+            entry.getValue().retire();
+        }
+        if (inFlight.isEmpty()) {
+            return;
+        }
+
+        List<Long> postIds = new ArrayList<>(inFlight.keySet());
+        for (int from = 0; from < postIds.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, postIds.size()));
+            try {
+                List<PostViewStat> merged = transactionTemplate.execute(status -> flushChunk(chunk));
+                merged.forEach(stat -> stored.put(stat.getPostId(), stat));
+            } catch (RuntimeException e) {
+                log.warn("조회수 반영 실패 ({}건), 다음 주기에 재시도합니다.", chunk.size(), e);
+                chunk.forEach(postId -> requeue(postId, inFlight.get(postId)));
+                chunk.forEach(stored::invalidate);
+            }
+        }
+        inFlight.clear();
+        epoch.incrementAndGet();
+    }
+
+    /**
+     * 종료 시 남은 조회 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<PostViewStat> flushChunk(List<Long> postIds) {
+        Map<Long, PostViewStat> stored = new HashMap<>();
+        for (PostViewStat stat : postViewStatMapper.findByPostIdsForUpdate(postIds)) {
+            stored.put(stat.getPostId(), stat);
+        }
+
+        List<PostViewStat> merged = new ArrayList<>(postIds.size());
+        for (Long postId : postIds) {
+            PendingViews views = inFlight.get(postId);
+            PostViewStat stat = stored.get(postId);
+            HyperLogLog viewers = HyperLogLog.fromBytes(stat != null ? stat.getViewerSketch() : null);
+            viewers.merge(views.viewers);
+            merged.add(PostViewStat.builder()
+                    .postId(postId)
+                    .viewCount((stat != null ? stat.getViewCount() : 0) + views.views.sum())
+                    .uniqueViewerCount(viewers.estimate())
+                    .viewerSketch(viewers.toBytes())
+                    .build());
+        }
+        postViewStatMapper.upsertAll(merged);
+        return merged;
+    }
+
+    private void requeue(Long postId, PendingViews failed) {
+        while (true) {
+            PendingViews views = pending.computeIfAbsent(postId, id -> new PendingViews());
+            if (views.tryMerge(failed)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 게시글 하나의 반영 대기 중인 조회.
+     * - LikeCounter 의 카운터와 같은 방식 : 기록하는 쪽은 activeWriters 를 올린 뒤 retired 를 확인하고,
+     *   flush 는 retired 를 세운 뒤 activeWriters 가 0 이 될 때까지 기다렸다가 가져간다.
+     */
+    private static final class PendingViews {
+        final LongAdder views = new LongAdder();
+        final HyperLogLog viewers = new HyperLogLog();
+        final LongAdder activeWriters = new LongAdder();
+        volatile boolean retired;
+
+        boolean tryRecord(String viewerEmail) {
+            activeWriters.increment();
+            try {
+                if (retired) {
+                    return false;
+                }
+                views.increment();
+                if (viewerEmail != null) {
+                    viewers.add(viewerEmail);
+                }
+                return true;
+            } finally {
+                activeWriters.decrement();
+            }
+        }
+
+        boolean tryMerge(PendingViews other) {
+            activeWriters.increment();
+            try {
+                if (retired) {
+                    return false;
+                }
+                views.add(other.views.sum());
+                viewers.merge(other.viewers);
+                return true;
+            } finally {
+                activeWriters.decrement();
+            }
+        }
+
+        void retire() {
+            retired = true;
+            while (activeWriters.sum() != 0) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
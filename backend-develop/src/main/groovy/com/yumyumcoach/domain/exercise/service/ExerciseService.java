@@ -1,5 +1,6 @@
 package com.yumyumcoach.domain.exercise.service;
 
+import com.yumyumcoach.domain.challenge.event.DailyRecordChangedEvent;
 import com.yumyumcoach.domain.exercise.dto.*;
 import com.yumyumcoach.domain.exercise.entity.Exercise;
 import com.yumyumcoach.domain.exercise.entity.ExerciseRecord;
@@ -10,11 +11,13 @@ import com.yumyumcoach.domain.exercise.mapper.ProfileMapper;
 import com.yumyumcoach.global.exception.BusinessException;
 import com.yumyumcoach.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -25,6 +28,7 @@ public class ExerciseService {
     private final ExerciseMapper exerciseMapper;
     private final ExerciseRecordMapper exerciseRecordMapper;
     private final ProfileMapper profileMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<ExerciseResponse> getExercises() {
         return exerciseMapper.findAll().stream()
@@ -50,14 +54,22 @@ public class ExerciseService {
 
     @Transactional
     public List<ExerciseRecordResponse> createMyExerciseRecords(String email, List<ExerciseRecordRequest> requests) {
-        return requests.stream()
+        List<ExerciseRecordResponse> responses = requests.stream()
                 .map(req -> createExerciseRecord(email, req))
                 .toList();
+
+        // 기록이 추가된 날짜마다 한 번씩 챌린지 진행률 재평가
+        requests.stream()
+                .map(ExerciseRecordRequest::getRecordDate)
+                .distinct()
+                .forEach(date -> publishRecordChanged(email, date));
+        return responses;
     }
 
     @Transactional
     public ExerciseRecordResponse updateMyExerciseRecord(String email, Long recordId, ExerciseRecordRequest request) {
         checkRecordOwnerOrThrow(email, recordId);
+        LocalDate previousDate = findRecordDate(email, recordId);
 
         double calories = calculateCalories(email, request.getExerciseId(), request.getDurationMinutes());
 
@@ -71,14 +83,22 @@ public class ExerciseService {
                 .build();
 
         exerciseRecordMapper.update(exerciseRecord);
+
+        // 날짜를 옮긴 경우 이전 날짜도 다시 평가
+        publishRecordChanged(email, request.getRecordDate());
+        if (!previousDate.equals(request.getRecordDate())) {
+            publishRecordChanged(email, previousDate);
+        }
         return getMyExerciseRecordDetail(email, recordId);
     }
 
     @Transactional
     public DeleteExerciseRecordResponse deleteMyExerciseRecord(String email, Long recordId) {
         checkRecordOwnerOrThrow(email, recordId);
+        LocalDate recordDate = findRecordDate(email, recordId);
 
         exerciseRecordMapper.delete(recordId, email);
+        publishRecordChanged(email, recordDate);
 
         return DeleteExerciseRecordResponse.builder()
                 .recordId(recordId)
@@ -101,6 +121,18 @@ public class ExerciseService {
         }
     }
 
+    private LocalDate findRecordDate(String email, Long recordId) {
+        ExerciseRecordWithExercise record = exerciseRecordMapper.findDetailByIdAndEmail(recordId, email);
+        if (record == null) {
+            throw new BusinessException(ErrorCode.EXERCISE_RECORD_NOT_FOUND);
+        }
+        return record.getRecordDate();
+    }
+
+    private void publishRecordChanged(String email, LocalDate recordDate) {
+        eventPublisher.publishEvent(DailyRecordChangedEvent.exercise(email, recordDate));
+    }
+
     private double calculateCalories(String email, Long exerciseId, Double durationMinutes) {
         Exercise exercise = exerciseMapper.findById(exerciseId);
         if (exercise == null) {
@@ -0,0 +1,35 @@
+package com.yumyumcoach.domain.stats.controller;
+
+import com.yumyumcoach.domain.stats.dto.DailyActivityResponse;
+import com.yumyumcoach.domain.stats.service.DailyActivityService;
+import com.yumyumcoach.global.common.CurrentUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 내 하루 활동 집계 컨트롤러.
+ * - /api/me/daily-activities 하위 엔드포인트 담당
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/me/daily-activities")
+public class MyDailyActivityController {
+    private final DailyActivityService dailyActivityService;
+
+    // 기간 내 하루 활동 집계 조회 (from ~ to, yyyy-MM-dd, 최대 366일, 기록이 없는 날은 빠진다)
+    @GetMapping
+    public List<DailyActivityResponse> getMyDailyActivities(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        String email = CurrentUser.email();
+        return dailyActivityService.getDailyActivities(email, from, to);
+    }
+}
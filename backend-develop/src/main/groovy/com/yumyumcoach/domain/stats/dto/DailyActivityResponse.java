@@ -0,0 +1,52 @@
+package com.yumyumcoach.domain.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 하루 활동 집계 응답 DTO.
+ * - GET /api/me/daily-activities
+ * - daily_activity 한 행 (사용자의 하루 운동/식단 기록 합계)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyActivityResponse {
+
+    /**
+     * 날짜
+     */
+    private LocalDate date;
+
+    /**
+     * 운동 시간 합계 (분)
+     */
+    private Double exerciseMinutes;
+
+    /**
+     * 운동으로 소모한 칼로리 합계 (kcal)
+     */
+    private Double caloriesBurned;
+
+    /**
+     * 식단 단백질 합계 (g)
+     * - 음식별 단백질 × 섭취량(serve_count)
+     */
+    private Double protein;
+
+    /**
+     * 식단 섭취 칼로리 합계 (kcal)
+     */
+    private Double caloriesEaten;
+
+    /**
+     * 그날 운동 또는 식단 기록이 하나라도 있는지
+     * - 기록을 모두 지운 날은 false 로 남는다
+     */
+    private boolean hasRecord;
+}
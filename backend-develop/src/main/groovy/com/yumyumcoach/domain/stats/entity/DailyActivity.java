@@ -0,0 +1,53 @@
+package com.yumyumcoach.domain.stats.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 하루 활동 집계 (daily_activity).
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyActivity {
+
+    /**
+     * 사용자 이메일
+     */
+    private String email;
+
+    /**
+     * 활동 날짜
+     */
+    private LocalDate activityDate;
+
+    /**
+     * 운동 시간 합계 (분)
+     */
+    private Double exerciseMinutes;
+
+    /**
+     * 운동 소모 칼로리 합계 (kcal)
+     */
+    private Double caloriesBurned;
+
+    /**
+     * 섭취 단백질 합계 (g, 음식 단백질 × 섭취 인분)
+     */
+    private Double protein;
+
+    /**
+     * 섭취 칼로리 합계 (kcal, 음식 칼로리 × 섭취 인분)
+     */
+    private Double caloriesEaten;
+
+    /**
+     * 운동 또는 식단 기록이 하나라도 있는지
+     */
+    private Boolean hasRecord;
+}
@@ -0,0 +1,64 @@
+package com.yumyumcoach.domain.stats.job;
+
+import com.yumyumcoach.domain.stats.mapper.DailyActivityMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 하루 활동 집계(daily_activity) 백필 작업.
+ * - 기존 기록은 마이그레이션(20261017_add_daily_activity.sql)이 채운다. 이 작업은 다시 맞출 때 쓴다.
+ *   (마이그레이션과 배포 사이에 이전 버전이 쓴 기록, 원본을 직접 수정한 경우)
+ * - stats.daily-activity-backfill.enabled=true 로 기동하면 한 번 실행된다.
+ * - 사용자를 이메일 순으로 CHUNK_SIZE 명씩 끊어, 그 사용자들의 전체 기록을 INSERT ... SELECT 한 번으로 다시 집계한다.
+ *   (문장마다 자동 커밋, 원본은 (email, record_date) 인덱스로 읽는다)
+ * - 원본에서 다시 집계하므로 여러 번 실행해도 결과가 같다.
+ *   중간에 멈췄으면 로그의 마지막 이메일을 stats.daily-activity-backfill.start-after 로 주고 다시 실행하면 이어서 진행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "stats.daily-activity-backfill", name = "enabled", havingValue = "true")
+public class DailyActivityBackfillJob {
+    private static final int CHUNK_SIZE = 200;
+    private static final int PROGRESS_LOG_INTERVAL = 50;
+
+    private final DailyActivityMapper dailyActivityMapper;
+
+    @Value("${stats.daily-activity-backfill.start-after:#{null}}")
+    private String startAfter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        String afterEmail = startAfter;
+        long accounts = 0;
+        long rows = 0;
+        int chunks = 0;
+        log.info("하루 활동 집계 백필 시작 (start-after={})", afterEmail);
+
+        while (true) {
+            List<String> emails = dailyActivityMapper.findEmailsAfter(afterEmail, CHUNK_SIZE);
+            if (emails.isEmpty()) {
+                break;
+            }
+            try {
+                rows += dailyActivityMapper.refreshByEmails(emails);
+            } catch (RuntimeException e) {
+                log.warn("하루 활동 집계 백필 중단 : start-after={} 로 다시 실행하면 이어서 진행합니다.", afterEmail, e);
+                return;
+            }
+            accounts += emails.size();
+            afterEmail = emails.get(emails.size() - 1);
+            if (++chunks % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("하루 활동 집계 백필 진행 : 사용자 {}명, 마지막 이메일={}", accounts, afterEmail);
+            }
+        }
+        log.info("하루 활동 집계 백필 완료 : 사용자 {}명, 영향받은 행 {}건", accounts, rows);
+    }
+}
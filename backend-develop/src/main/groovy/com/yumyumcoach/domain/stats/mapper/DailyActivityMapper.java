@@ -0,0 +1,44 @@
+package com.yumyumcoach.domain.stats.mapper;
+
+import com.yumyumcoach.domain.stats.entity.DailyActivity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 하루 활동 집계(daily_activity) 테이블용 MyBatis Mapper.
+ */
+@Mapper
+public interface DailyActivityMapper {
+
+    /**
+     * 사용자의 기간 내 하루 활동 집계 (날짜 순, 행이 없는 날은 포함되지 않는다)
+     */
+    List<DailyActivity> findByEmailAndPeriod(@Param("email") String email,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    /**
+     * (사용자, 날짜) 한 행을 운동/식단 원본 기록에서 다시 집계해 저장한다.
+     *
+     * @return 영향받은 row 수
+     */
+    int refresh(@Param("email") String email, @Param("activityDate") LocalDate activityDate);
+
+    /**
+     * 여러 사용자의 전체 기간 하루 활동을 원본 기록에서 다시 집계해 저장한다. (백필용)
+     *
+     * @param emails 사용자 이메일 목록 (비어 있으면 안 됨)
+     * @return 영향받은 row 수
+     */
+    int refreshByEmails(@Param("emails") List<String> emails);
+
+    /**
+     * afterEmail 다음부터 이메일 순으로 사용자 이메일을 조회한다. (백필 진행용)
+     *
+     * @param afterEmail 마지막으로 처리한 이메일 (처음이면 null)
+     */
+    List<String> findEmailsAfter(@Param("afterEmail") String afterEmail, @Param("limit") int limit);
+}
@@ -0,0 +1,24 @@
+package com.yumyumcoach.domain.stats.service;
+
+import com.yumyumcoach.domain.challenge.event.DailyRecordChangedEvent;
+import com.yumyumcoach.domain.stats.mapper.DailyActivityMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 운동/식단 기록이 바뀌면 커밋 직전(같은 트랜잭션 안)에 그 (사용자, 날짜)의 daily_activity 행만 원본에서 다시 집계한다.
+ * - 기록과 집계가 함께 커밋되거나 함께 롤백된다.
+ * - 커밋 이후에 도는 챌린지 진행률 평가(ChallengeProgressListener)는 항상 갱신된 집계를 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyActivityListener {
+    private final DailyActivityMapper dailyActivityMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDailyRecordChanged(DailyRecordChangedEvent event) {
+        dailyActivityMapper.refresh(event.getEmail(), event.getRecordDate());
+    }
+}
@@ -0,0 +1,50 @@
+package com.yumyumcoach.domain.stats.service;
+
+import com.yumyumcoach.domain.stats.dto.DailyActivityResponse;
+import com.yumyumcoach.domain.stats.mapper.DailyActivityMapper;
+import com.yumyumcoach.global.exception.BusinessException;
+import com.yumyumcoach.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 사용자별 하루 활동 집계(daily_activity) 서비스.
+ * - 집계는 DailyActivityListener 가 기록 트랜잭션 안에서 갱신한다.
+ * - 통계 조회는 원본 기록 대신 하루 한 행씩 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DailyActivityService {
+    public static final int MAX_PERIOD_DAYS = 366;
+
+    private final DailyActivityMapper dailyActivityMapper;
+
+    /**
+     * 기간 내 하루 활동 집계를 조회한다. (기록이 없는 날은 포함되지 않는다)
+     *
+     * @param email 사용자 이메일
+     * @param from  시작일(포함)
+     * @param to    종료일(포함), 시작일부터 MAX_PERIOD_DAYS 일 이내
+     */
+    public List<DailyActivityResponse> getDailyActivities(String email, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_PERIOD_DAYS) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+        return dailyActivityMapper.findByEmailAndPeriod(email, from, to).stream()
+                .map(activity -> DailyActivityResponse.builder()
+                        .date(activity.getActivityDate())
+                        .exerciseMinutes(activity.getExerciseMinutes())
+                        .caloriesBurned(activity.getCaloriesBurned())
+                        .protein(activity.getProtein())
+                        .caloriesEaten(activity.getCaloriesEaten())
+                        .hasRecord(Boolean.TRUE.equals(activity.getHasRecord()))
+                        .build())
+                .toList();
+    }
+}
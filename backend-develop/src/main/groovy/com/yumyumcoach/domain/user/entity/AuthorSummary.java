@@ -0,0 +1,19 @@
+package com.yumyumcoach.domain.user.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글/댓글 작성자 표시용 요약 정보 (accounts)
+ * - 프로필 이미지는 아직 저장하는 컬럼이 없어서 포함하지 않는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuthorSummary {
+    private String email;
+    private String username;
+}
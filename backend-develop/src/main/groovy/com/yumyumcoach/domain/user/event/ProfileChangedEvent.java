@@ -0,0 +1,17 @@
+package com.yumyumcoach.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 닉네임/프로필 변경 이벤트.
+ * - 변경하는 쪽이 발행하고, AuthorSummaryService 가 해당 사용자의 캐시를 지운다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProfileChangedEvent {
+    /**
+     * 변경된 사용자 이메일
+     */
+    private final String email;
+}
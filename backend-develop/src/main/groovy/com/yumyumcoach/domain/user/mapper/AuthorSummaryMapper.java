@@ -0,0 +1,16 @@
+package com.yumyumcoach.domain.user.mapper;
+
+import com.yumyumcoach.domain.user.entity.AuthorSummary;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface AuthorSummaryMapper {
+    /**
+     * 여러 사용자의 작성자 요약 정보 (없는 이메일은 결과에서 빠짐)
+     */
+    List<AuthorSummary> findByEmails(@Param("emails") Collection<String> emails);
+}
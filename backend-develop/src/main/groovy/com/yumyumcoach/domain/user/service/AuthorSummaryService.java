@@ -0,0 +1,93 @@
+package com.yumyumcoach.domain.user.service;
+
+import com.yumyumcoach.domain.user.entity.AuthorSummary;
+import com.yumyumcoach.domain.user.event.ProfileChangedEvent;
+import com.yumyumcoach.domain.user.mapper.AuthorSummaryMapper;
+import com.yumyumcoach.global.cache.BoundedCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글/댓글 작성자 요약 정보 서비스.
+ * - 한 페이지의 작성자 이메일을 모아 캐시에 없는 것만 accounts 에서 한 번에 조회한다. (행마다 조회하지 않음)
+ * - 조회한 요약은 MAX_CACHED_AUTHORS 명까지 LRU 로 캐시하고, 프로필이 바뀌면(ProfileChangedEvent) 그 사용자만 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthorSummaryService {
+    private static final long MAX_CACHED_AUTHORS = 50_000;
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final AuthorSummaryMapper authorSummaryMapper;
+
+    private final BoundedCache<String, AuthorSummary> cache = BoundedCache.ofSize(MAX_CACHED_AUTHORS, TTL);
+
+    /**
+     * 작성자 이메일 → 요약 정보 (계정이 없는 이메일은 빠짐)
+     */
+    public Map<String, AuthorSummary> findByEmails(Collection<String> emails) {
+        Map<String, AuthorSummary> result = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+        for (String email : emails) {
+            if (email == null || result.containsKey(email)) {
+                continue;
+            }
+            AuthorSummary cached = cache.get(email);
+            if (cached != null) {
+                result.put(email, cached);
+            } else {
+                misses.add(email);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (AuthorSummary summary : authorSummaryMapper.findByEmails(misses)) {
+                cache.put(summary.getEmail(), summary);
+                result.put(summary.getEmail(), summary);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 작성자 한 명의 요약 정보, 없으면 null
+     */
+    public AuthorSummary findByEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+        return findByEmails(Set.of(email)).get(email);
+    }
+
+    /**
+     * 사용자의 캐시된 요약 정보를 지운다.
+     */
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+
+    /**
+     * 트랜잭션 안에서 발행되면 커밋 이후에, 밖에서 발행되면 바로 지운다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        evict(event.getEmail());
+    }
+
+    @Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+    public void logStats() {
+        log.info("작성자 요약 캐시 : {}", cache.stats());
+    }
+}
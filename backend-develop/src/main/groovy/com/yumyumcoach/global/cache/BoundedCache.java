@@ -0,0 +1,173 @@
+package com.yumyumcoach.global.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * 크기(가중치)와 TTL 로 제한되는 인메모리 캐시.
+ * - 가중치 합이 maxWeight 를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다. (LRU)
+ * - 저장 후 ttl 이 지난 항목은 조회 시점에 만료 처리한다.
+ * - 항목이 어떤 이유로든 제거되면 removalListener 를 호출한다. (락 밖에서 호출)
+ * - 적중/미적중/제거 횟수를 stats() 로 확인할 수 있다.
+ */
+public class BoundedCache<K, V> {
+    private final long maxWeight;
+    private final long ttlNanos;
+    private final ToIntBiFunction<K, V> weigher;
+    private final BiConsumer<K, V> removalListener;
+
+    /**
+     * 접근 순서(access-order) LinkedHashMap : 맨 앞이 가장 오래 사용되지 않은 항목
+     */
+    private final LinkedHashMap<K, Node<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(long maxWeight, Duration ttl, ToIntBiFunction<K, V> weigher, BiConsumer<K, V> removalListener) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive");
+        }
+        this.maxWeight = maxWeight;
+        this.ttlNanos = ttl.toNanos();
+        this.weigher = weigher;
+        this.removalListener = removalListener;
+    }
+
+    /**
+     * 항목 수로만 제한하는 캐시 (항목 하나의 가중치 = 1)
+     */
+    public static <K, V> BoundedCache<K, V> ofSize(long maxSize, Duration ttl) {
+        return new BoundedCache<>(maxSize, ttl, (key, value) -> 1, null);
+    }
+
+    /**
+     * 캐시된 값을 조회한다. 없거나 만료되었으면 null
+     */
+    public V get(K key) {
+        List<Map.Entry<K, V>> removed = new ArrayList<>(1);
+        V value;
+        synchronized (this) {
+            Node<V> node = map.get(key);
+            if (node != null && node.isExpired(System.nanoTime())) {
+                map.remove(key);
+                totalWeight -= node.weight;
+                removed.add(Map.entry(key, node.value));
+                node = null;
+            }
+            value = node != null ? node.value : null;
+        }
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        notifyRemoved(removed);
+        return value;
+    }
+
+    /**
+     * 값을 저장한다. 가중치 합이 넘치면 오래 사용되지 않은 항목부터 제거한다.
+     * - 항목 하나의 가중치가 maxWeight 보다 크면 저장하지 않는다.
+     */
+    public void put(K key, V value) {
+        int weight = weigher.applyAsInt(key, value);
+        if (weight > maxWeight) {
+            return;
+        }
+        List<Map.Entry<K, V>> removed = new ArrayList<>(1);
+        synchronized (this) {
+            Node<V> previous = map.put(key, new Node<>(value, weight, System.nanoTime() + ttlNanos));
+            if (previous != null) {
+                totalWeight -= previous.weight;
+                removed.add(Map.entry(key, previous.value));
+            }
+            totalWeight += weight;
+
+            Iterator<Map.Entry<K, Node<V>>> eldest = map.entrySet().iterator();
+            while (totalWeight > maxWeight && eldest.hasNext()) {
+                Map.Entry<K, Node<V>> entry = eldest.next();
+                if (entry.getKey().equals(key)) {
+                    continue;
+                }
+                eldest.remove();
+                totalWeight -= entry.getValue().weight;
+                removed.add(Map.entry(entry.getKey(), entry.getValue().value));
+                evictions.increment();
+            }
+        }
+        notifyRemoved(removed);
+    }
+
+    /**
+     * 항목 하나를 제거한다.
+     */
+    public void invalidate(K key) {
+        List<Map.Entry<K, V>> removed = new ArrayList<>(1);
+        synchronized (this) {
+            Node<V> node = map.remove(key);
+            if (node != null) {
+                totalWeight -= node.weight;
+                removed.add(Map.entry(key, node.value));
+            }
+        }
+        notifyRemoved(removed);
+    }
+
+    /**
+     * 조건에 맞는 키를 모두 제거한다.
+     */
+    public void invalidateIf(Predicate<K> condition) {
+        List<Map.Entry<K, V>> removed = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Map.Entry<K, Node<V>>> it = map.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<K, Node<V>> entry = it.next();
+                if (condition.test(entry.getKey())) {
+                    it.remove();
+                    totalWeight -= entry.getValue().weight;
+                    removed.add(Map.entry(entry.getKey(), entry.getValue().value));
+                }
+            }
+        }
+        notifyRemoved(removed);
+    }
+
+    /**
+     * 전체 항목을 제거한다.
+     */
+    public void invalidateAll() {
+        invalidateIf(key -> true);
+    }
+
+    public CacheStats stats() {
+        synchronized (this) {
+            return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), map.size(), totalWeight);
+        }
+    }
+
+    private void notifyRemoved(List<Map.Entry<K, V>> removed) {
+        if (removalListener == null) {
+            return;
+        }
+        for (Map.Entry<K, V> entry : removed) {
+            removalListener.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private record Node<V>(V value, int weight, long expireAtNanos) {
+        boolean isExpired(long now) {
+            return now - expireAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.yumyumcoach.global.cache;
+
+/**
+ * 캐시 통계 (BoundedCache.stats())
+ *
+ * @param hits      적중 횟수
+ * @param misses    미적중 횟수 (만료 포함)
+ * @param evictions 용량 초과로 제거된 횟수
+ * @param size      현재 항목 수
+ * @param weight    현재 가중치 합
+ */
+public record CacheStats(long hits, long misses, long evictions, int size, long weight) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, hitRate=%.3f, evictions=%d, size=%d, weight=%d",
+                hits, misses, hitRate(), evictions, size, weight);
+    }
+}
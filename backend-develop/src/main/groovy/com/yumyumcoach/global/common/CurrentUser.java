@@ -15,4 +15,15 @@ public class CurrentUser {
         }
         return (String) auth.getPrincipal();
     }
+
+    /**
+     * 로그인 사용자 이메일, 요청 밖(스케줄 작업 등)이거나 인증 정보가 없으면 null
+     */
+    public static String emailOrNull() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || !(auth.getPrincipal() instanceof String email)) {
+            return null;
+        }
+        return email;
+    }
 }
@@ -0,0 +1,104 @@
+package com.yumyumcoach.global.config;
+
+import com.yumyumcoach.global.datasource.DataSourceRoutingProperties;
+import com.yumyumcoach.global.datasource.ReadYourWritesTracker;
+import com.yumyumcoach.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 복제본 라우팅 (datasource.routing.enabled=true 일 때만)
+ * - primary 는 spring.datasource.*, 복제본은 datasource.routing.replicas 로 만든다.
+ * - 로컬에서는 MySQL 두 개를 띄우거나, 복제본 url 을 primary 와 같은 DB 로 두고 라우팅만 확인할 수 있다.
+ * - 복제본 상태 확인은 공용 스케줄러가 아니라 전용 스레드에서 돈다. (내려간 복제본 연결 대기가 다른 작업을 밀지 않도록)
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+    private final DataSourceRoutingProperties routingProperties;
+    private final DataSourceProperties dataSourceProperties;
+
+    private final ScheduledExecutorService healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-health-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DataSourceRoutingConfig(DataSourceRoutingProperties routingProperties,
+                                   DataSourceProperties dataSourceProperties) {
+        this.routingProperties = routingProperties;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource routingDataSource() {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+
+        List<DataSource> replicas = new ArrayList<>();
+        List<DataSourceRoutingProperties.Replica> replicaProperties = routingProperties.getReplicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            DataSourceRoutingProperties.Replica replica = replicaProperties.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setJdbcUrl(replica.getUrl());
+            dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.getUsername());
+            dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.getPassword());
+            dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(replica.getConnectionTimeout().toMillis());
+            dataSource.setValidationTimeout(replica.getValidationTimeout().toMillis());
+            dataSource.setReadOnly(true);
+            // 기동 시 복제본이 내려가 있어도 앱은 뜨고, 상태 확인에서 제외되도록
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.add(dataSource);
+        }
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                primary, replicas, new ReadYourWritesTracker(routingProperties.getReadYourWritesWindow()));
+
+        // 복제본 상태 확인 (주기는 datasource.routing.health-check-interval)
+        long intervalMillis = routingProperties.getHealthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(() -> {
+            try {
+                routingDataSource.checkHealth();
+            } catch (RuntimeException e) {
+                log.warn("복제본 상태 확인 실패", e);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return routingDataSource;
+    }
+
+    /**
+     * 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻어야 readOnly 여부로 라우팅할 수 있다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        healthChecker.shutdownNow();
+    }
+}
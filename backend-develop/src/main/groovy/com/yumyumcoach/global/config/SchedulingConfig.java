@@ -0,0 +1,13 @@
+package com.yumyumcoach.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화.
+ * - 스케줄러 스레드 수는 application.yml 의 spring.task.scheduling.pool.size
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
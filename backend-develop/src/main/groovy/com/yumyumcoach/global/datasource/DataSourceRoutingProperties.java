@@ -0,0 +1,64 @@
+package com.yumyumcoach.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본(replica) 라우팅 설정 (datasource.routing.*)
+ * - 쓰기(primary)는 기존 spring.datasource.* 설정을 그대로 사용한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+    /**
+     * 라우팅 사용 여부 (false 면 spring.datasource 하나만 사용)
+     */
+    private boolean enabled;
+
+    /**
+     * 사용자가 쓰기 트랜잭션을 커밋한 뒤 이 시간 동안은 그 사용자의 읽기도 primary 로 보낸다. (복제 지연 대비)
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * 복제본 상태 확인 주기
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+
+        /**
+         * 없으면 spring.datasource.username
+         */
+        private String username;
+
+        /**
+         * 없으면 spring.datasource.password
+         */
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+        /**
+         * 커넥션을 얻을 때 기다리는 최대 시간
+         * - 내려간 복제본이 아직 정상으로 표시되어 있는 동안 읽기 요청이 오래 막히지 않도록 짧게 둔다. (Hikari 기본값 30초)
+         */
+        private Duration connectionTimeout = Duration.ofSeconds(1);
+
+        /**
+         * 커넥션 유효성 확인 최대 시간 (connectionTimeout 보다 짧아야 한다)
+         */
+        private Duration validationTimeout = Duration.ofMillis(500);
+    }
+}
@@ -0,0 +1,27 @@
+package com.yumyumcoach.global.datasource;
+
+import com.yumyumcoach.global.cache.BoundedCache;
+
+import java.time.Duration;
+
+/**
+ * 최근에 쓰기를 커밋한 사용자 목록.
+ * - 커밋 시점에 기록하고 window 가 지나면 만료된다. 기록이 남아 있는 동안 그 사용자의 읽기는 primary 로 간다.
+ */
+public class ReadYourWritesTracker {
+    private static final long MAX_TRACKED_USERS = 100_000;
+
+    private final BoundedCache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = BoundedCache.ofSize(MAX_TRACKED_USERS, window);
+    }
+
+    public void markWrite(String email) {
+        recentWriters.put(email, Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(String email) {
+        return recentWriters.get(email) != null;
+    }
+}
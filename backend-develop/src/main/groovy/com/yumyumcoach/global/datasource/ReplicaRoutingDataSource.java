@@ -0,0 +1,182 @@
+package com.yumyumcoach.global.datasource;
+
+import com.yumyumcoach.global.common.CurrentUser;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 나머지는 primary 로 보내는 DataSource.
+ * - 복제본은 정상 상태인 것만 라운드 로빈으로 고른다. 하나도 없으면 primary 로 읽는다.
+ * - 복제본 커넥션을 얻다가 실패하면 바로 제외하고 primary 로 대신 읽는다. 제외된 복제본은 checkHealth() 가 되살린다.
+ * - 쓰기 트랜잭션이 커밋되면 그 사용자를 ReadYourWritesTracker 에 기록하고, 기간 동안 그 사용자의 읽기는 primary 로 보낸다.
+ * - 트랜잭션의 readOnly 여부가 정해진 뒤에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.primary = primary;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicas = new ArrayList<>();
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String email = CurrentUser.emailOrNull();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteOnCommit(email);
+            return PRIMARY;
+        }
+        if (email != null && readYourWritesTracker.wroteRecently(email)) {
+            return PRIMARY;
+        }
+        Replica replica = pickReplica();
+        return replica != null ? replica.key : PRIMARY;
+    }
+
+    /**
+     * 복제본 커넥션을 얻지 못하면 그 복제본을 제외하고 primary 커넥션을 돌려준다.
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        Replica replica = findReplica(key);
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            eject(replica, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection();
+    }
+
+    /**
+     * 모든 복제본의 상태를 확인해서 제외/복구한다.
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(1)) {
+                    if (replica.healthy.compareAndSet(false, true)) {
+                        log.info("복제본 복구 : {}", replica.key);
+                    }
+                } else {
+                    eject(replica, null);
+                }
+            } catch (SQLException e) {
+                eject(replica, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+        if (primary instanceof HikariDataSource hikari) {
+            hikari.close();
+        }
+    }
+
+    private Replica pickReplica() {
+        int size = replicas.size();
+        for (int attempt = 0; attempt < size; attempt++) {
+            Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), size));
+            if (replica.healthy.get()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Replica findReplica(Object key) {
+        for (Replica replica : replicas) {
+            if (replica.key.equals(key)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void eject(Replica replica, SQLException cause) {
+        if (replica.healthy.compareAndSet(true, false)) {
+            log.warn("복제본 제외 : {} ({})", replica.key, cause != null ? cause.getMessage() : "isValid=false");
+        }
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 이후 사용자를 기록한다. (트랜잭션마다 한 번)
+     */
+    private void markWriteOnCommit(String email) {
+        if (email == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String resourceKey = ReadYourWritesTracker.class.getName();
+        if (TransactionSynchronizationManager.hasResource(resourceKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(resourceKey, email);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(email);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+            }
+        });
+    }
+
+    private static final class Replica {
+        final String key;
+        final DataSource dataSource;
+        final AtomicBoolean healthy = new AtomicBoolean(true);
+
+        Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
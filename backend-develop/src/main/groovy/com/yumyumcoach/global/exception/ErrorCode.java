@@ -23,6 +23,7 @@ public enum ErrorCode {
     COMMENT_FORBIDDEN(HttpStatus.FORBIDDEN, "해당 댓글에 대한 권한이 없습니다."),
     LIKE_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 좋아요를 누른 게시글입니다."),
     LIKE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 게시글에 대해 눌러둔 좋아요가 없습니다."),
+    POST_STREAM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "실시간 구독이 많아 잠시 후 다시 시도해 주세요."),
 
     // ===== CHALLENGE =====
     CHALLENGE_INVALID_MONTH_PARAM(HttpStatus.BAD_REQUEST,
@@ -0,0 +1,129 @@
+package com.yumyumcoach.domain.community.counter
+
+import com.yumyumcoach.domain.community.mapper.PostMapper
+import org.junit.jupiter.api.Tag
+import org.junit.jupiter.api.Test
+import org.springframework.context.ApplicationEventPublisher
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.LongAdder
+import java.util.concurrent.locks.ReentrantLock
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+/**
+ * 인기 게시글 하나에 좋아요가 몰릴 때의 처리량 비교.
+ * - row-lock : 좋아요마다 같은 행 락을 잡고 UPDATE 시간만큼 붙잡고 있는 기존 방식 (DB 없이 락 + 대기 시간으로 흉내)
+ * - coalesced : LikeCounter 에 증감을 모으고 1초마다 한 번 반영
+ *
+ * 기본 test 태스크에서는 제외되어 있고, ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class LikeCounterBenchmarkTest {
+    private static final Long HOT_POST_ID = 1L
+    private static final int THREADS = 32
+    private static final long DURATION_MILLIS = 3_000
+    private static final long SIMULATED_UPDATE_MICROS = 200
+
+    @Test
+    void hotPostThroughput() {
+        double rowLock = rowLockThroughput()
+        CoalescedResult coalesced = coalescedThroughput()
+
+        println String.format("row-lock  : %,.0f likes/s", rowLock)
+        println String.format("coalesced : %,.0f likes/s (flush %d회)", coalesced.throughput, coalesced.flushes)
+
+        assertEquals(coalesced.added, coalesced.flushed, "모든 증감이 DB 에 반영되어야 한다")
+        assertTrue(coalesced.throughput > rowLock * 10, "쓰기 모으기가 행 락 방식보다 10배 이상 빨라야 한다")
+    }
+
+    private static double rowLockThroughput() {
+        ReentrantLock rowLock = new ReentrantLock()
+        long[] likes = new long[1]
+        long ops = runConcurrently {
+            rowLock.lock()
+            try {
+                likes[0]++
+                busyWait(SIMULATED_UPDATE_MICROS)
+            } finally {
+                rowLock.unlock()
+            }
+        }
+        return ops * 1000.0 / DURATION_MILLIS
+    }
+
+    private static CoalescedResult coalescedThroughput() {
+        AtomicLong flushed = new AtomicLong()
+        AtomicLong flushes = new AtomicLong()
+        PostMapper postMapper = [applyLikeDeltas: { Map<Long, Long> deltas ->
+            busyWait(SIMULATED_UPDATE_MICROS)
+            flushed.addAndGet(deltas.values().sum() as long)
+            flushes.incrementAndGet()
+            deltas.size()
+        }] as PostMapper
+        ApplicationEventPublisher publisher = { Object event -> } as ApplicationEventPublisher
+        LikeCounter likeCounter = new LikeCounter(postMapper, publisher)
+
+        def scheduler = Executors.newSingleThreadScheduledExecutor()
+        scheduler.scheduleWithFixedDelay({ likeCounter.flush() }, 1, 1, TimeUnit.SECONDS)
+        long ops
+        try {
+            ops = runConcurrently { likeCounter.add(HOT_POST_ID, 1) }
+        } finally {
+            scheduler.shutdown()
+            scheduler.awaitTermination(5, TimeUnit.SECONDS)
+        }
+        likeCounter.flushOnShutdown()
+
+        return new CoalescedResult(
+                throughput: ops * 1000.0 / DURATION_MILLIS,
+                added: ops,
+                flushed: flushed.get(),
+                flushes: flushes.get()
+        )
+    }
+
+    /**
+     * THREADS 개 스레드가 DURATION_MILLIS 동안 action 을 반복한 총 횟수
+     */
+    private static long runConcurrently(Closure action) {
+        def executor = Executors.newFixedThreadPool(THREADS)
+        LongAdder ops = new LongAdder()
+        AtomicBoolean running = new AtomicBoolean(true)
+        CountDownLatch start = new CountDownLatch(1)
+        THREADS.times {
+            executor.submit {
+                start.await()
+                while (running.get()) {
+                    action.call()
+                    ops.increment()
+                }
+            }
+        }
+        start.countDown()
+        Thread.sleep(DURATION_MILLIS)
+        running.set(false)
+        executor.shutdown()
+        executor.awaitTermination(10, TimeUnit.SECONDS)
+        return ops.sum()
+    }
+
+    private static void busyWait(long micros) {
+        long until = System.nanoTime() + micros * 1000
+        while (System.nanoTime() < until) {
+            Thread.onSpinWait()
+        }
+    }
+
+    private static class CoalescedResult {
+        double throughput
+        long added
+        long flushed
+        long flushes
+    }
+}
@@ -0,0 +1,101 @@
+package com.yumyumcoach.domain.community.ranking
+
+import com.yumyumcoach.domain.community.entity.PostStat
+import com.yumyumcoach.domain.community.event.CommentEvent
+import com.yumyumcoach.domain.community.event.PostEvent
+import com.yumyumcoach.domain.community.event.PostLikeEvent
+import com.yumyumcoach.domain.community.mapper.PostMapper
+import org.junit.jupiter.api.Test
+
+import java.time.LocalDateTime
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+/**
+ * PopularPostRanking : DB 적재 후 좋아요/댓글/삭제 이벤트로 순위가 바뀌는지.
+ */
+class PopularPostRankingTest {
+    private static final LocalDateTime NOW = LocalDateTime.now().withNano(0)
+
+    private List<PostStat> stats = []
+    private final PostMapper postMapper = [findPostStatsSince: { LocalDateTime since -> stats }] as PostMapper
+    private final PopularPostRanking ranking = new PopularPostRanking(postMapper)
+
+    @Test
+    void notReadyUntilFirstRefresh() {
+        assertFalse(ranking.isReady())
+        ranking.refresh()
+        assertTrue(ranking.isReady())
+    }
+
+    @Test
+    void refreshRanksByHotScore() {
+        // 같은 시각에 작성 : 반응이 많은 순
+        stats = [stat(1, NOW, 0, 0), stat(2, NOW, 10, 0), stat(3, NOW, 0, 3)]
+        ranking.refresh()
+
+        assertEquals([2L, 3L, 1L], ranking.findPostIds(0, 10))
+        assertEquals([3L, 1L], ranking.findPostIds(1, 10))
+        assertEquals(3, ranking.size())
+    }
+
+    @Test
+    void newerPostOutranksOlderPostWithSameEngagement() {
+        stats = [stat(1, NOW.minusDays(1), 5, 0), stat(2, NOW, 5, 0)]
+        ranking.refresh()
+
+        assertEquals([2L, 1L], ranking.findPostIds(0, 10))
+    }
+
+    @Test
+    void likeAndCommentEventsMovePost() {
+        stats = [stat(1, NOW, 0, 0), stat(2, NOW, 1, 0)]
+        ranking.refresh()
+        assertEquals([2L, 1L], ranking.findPostIds(0, 10))
+
+        ranking.onPostLikeEvent(PostLikeEvent.liked(1L, "a@test.com"))
+        ranking.onCommentEvent(CommentEvent.created(1L, 100L))
+        assertEquals([1L, 2L], ranking.findPostIds(0, 10))
+
+        ranking.onCommentEvent(CommentEvent.deleted(1L, 100L))
+        ranking.onPostLikeEvent(PostLikeEvent.unliked(1L, "a@test.com"))
+        assertEquals([2L, 1L], ranking.findPostIds(0, 10))
+        assertEquals(2, ranking.size())
+    }
+
+    @Test
+    void deletedPostLeavesRankingAndLaterEventsAreIgnored() {
+        stats = [stat(1, NOW, 3, 0), stat(2, NOW, 1, 0)]
+        ranking.refresh()
+
+        ranking.onPostEvent(PostEvent.deleted(1L))
+        ranking.onPostLikeEvent(PostLikeEvent.liked(1L, "a@test.com"))
+
+        assertEquals([2L], ranking.findPostIds(0, 10))
+        assertEquals(1, ranking.size())
+    }
+
+    @Test
+    void refreshReplacesEventDrivenState() {
+        stats = [stat(1, NOW, 0, 0), stat(2, NOW, 0, 0)]
+        ranking.refresh()
+        ranking.onPostLikeEvent(PostLikeEvent.liked(1L, "a@test.com"))
+        assertEquals([1L, 2L], ranking.findPostIds(0, 10))
+
+        // DB 기준으로는 2번이 더 인기 : 다시 적재하면 DB 값을 따른다.
+        stats = [stat(1, NOW, 0, 0), stat(2, NOW, 4, 0)]
+        ranking.refresh()
+        assertEquals([2L, 1L], ranking.findPostIds(0, 10))
+    }
+
+    private static PostStat stat(long postId, LocalDateTime createdAt, int likes, int commentCount) {
+        PostStat.builder()
+                .postId(postId)
+                .createdAt(createdAt)
+                .likes(likes)
+                .commentCount(commentCount)
+                .build()
+    }
+}
@@ -0,0 +1,106 @@
+package com.yumyumcoach.domain.community.ranking
+
+import org.junit.jupiter.api.Test
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+/**
+ * RankingSkipList : 정렬 순서, span 유지, 순위(offset) 조회.
+ * - 무작위 추가/삭제 뒤에 모든 offset 의 range 결과를 정렬된 목록(기준값)과 비교한다.
+ */
+class RankingSkipListTest {
+
+    @Test
+    void rangeOrdersByScoreThenPostIdDescending() {
+        RankingSkipList list = new RankingSkipList()
+        list.insert(1, 10.0)
+        list.insert(2, 30.0)
+        list.insert(3, 20.0)
+        list.insert(4, 20.0)
+
+        assertEquals(4, list.size())
+        assertArrayEquals([2L, 4L, 3L, 1L] as long[], list.range(0, 10))
+    }
+
+    @Test
+    void rangeReturnsPageFromOffset() {
+        RankingSkipList list = new RankingSkipList()
+        (1..100).each { list.insert(it, it as double) }
+
+        assertArrayEquals([100L, 99L, 98L] as long[], list.range(0, 3))
+        assertArrayEquals([50L, 49L, 48L, 47L] as long[], list.range(50, 4))
+        assertArrayEquals([2L, 1L] as long[], list.range(98, 10), "끝을 넘는 limit 은 남은 개수만큼")
+    }
+
+    @Test
+    void rangeOutOfBoundsIsEmpty() {
+        RankingSkipList list = new RankingSkipList()
+        assertEquals(0, list.range(0, 10).length, "빈 목록")
+
+        list.insert(1, 1.0)
+        assertEquals(0, list.range(1, 10).length, "offset == size")
+        assertEquals(0, list.range(-1, 10).length, "음수 offset")
+        assertEquals(0, list.range(0, 0).length, "limit 0")
+    }
+
+    @Test
+    void removeRequiresSamePostIdAndScore() {
+        RankingSkipList list = new RankingSkipList()
+        list.insert(1, 10.0)
+        list.insert(2, 20.0)
+
+        assertFalse(list.remove(1, 20.0), "점수가 다르면 제거하지 않는다")
+        assertFalse(list.remove(3, 10.0), "없는 게시글")
+        assertTrue(list.remove(1, 10.0))
+        assertFalse(list.remove(1, 10.0), "이미 제거됨")
+
+        assertEquals(1, list.size())
+        assertArrayEquals([2L] as long[], list.range(0, 10))
+    }
+
+    @Test
+    void scoreChangeMovesPostToNewRank() {
+        RankingSkipList list = new RankingSkipList()
+        (1..10).each { list.insert(it, it as double) }
+
+        // PopularPostRanking.update 와 같은 순서 : 이전 점수로 제거 → 새 점수로 추가
+        assertTrue(list.remove(3, 3.0))
+        list.insert(3, 100.0)
+
+        assertArrayEquals([3L, 10L, 9L] as long[], list.range(0, 3))
+        assertArrayEquals([4L, 2L, 1L] as long[], list.range(7, 3))
+    }
+
+    @Test
+    void randomInsertsAndRemovesKeepSpansConsistent() {
+        Random random = new Random(42)
+        RankingSkipList list = new RankingSkipList()
+        Map<Long, Double> scores = [:]
+
+        5_000.times {
+            long postId = random.nextInt(1_000) + 1
+            if (scores.containsKey(postId)) {
+                assertTrue(list.remove(postId, scores.remove(postId)))
+            } else {
+                // 같은 점수끼리의 순서(게시글 ID)도 확인되도록 점수 범위를 좁게 둔다.
+                double score = random.nextInt(50)
+                list.insert(postId, score)
+                scores[postId] = score
+            }
+        }
+
+        long[] expected = scores.entrySet()
+                .sort { a, b -> b.value <=> a.value ?: b.key <=> a.key }
+                .collect { it.key } as long[]
+        assertEquals(expected.length, list.size())
+        assertArrayEquals(expected, list.range(0, expected.length), "전체 순서")
+        for (int offset = 0; offset < expected.length; offset++) {
+            long[] page = list.range(offset, 7)
+            long[] expectedPage = Arrays.copyOfRange(expected, offset, Math.min(offset + 7, expected.length))
+            assertArrayEquals(expectedPage, page, "offset=" + offset)
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.yumyumcoach.domain.community.service
+
+import com.yumyumcoach.domain.community.entity.PostImage
+import com.yumyumcoach.domain.community.mapper.PostImageMapper
+import org.junit.jupiter.api.Test
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertNull
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+/**
+ * PostImageDiff : 순서 변경/추가/뒤쪽 삭제 시 자리별로 바뀐 행만 upsert 하고 남은 자리를 지우는지.
+ */
+class PostImageDiffTest {
+    private static final Long POST_ID = 1L
+
+    /**
+     * post_images 대신 쓰는 메모리 테이블 (order_index → URL)
+     */
+    private final Map<Integer, String> table = new TreeMap<>()
+    private final List<List<PostImage>> upsertCalls = []
+    private final List<Integer> deleteCalls = []
+
+    private final PostImageMapper postImageMapper = [
+            upsertAll           : { List<PostImage> images ->
+                upsertCalls << images
+                images.each { table[it.orderIndex] = it.imageUrl }
+            },
+            deleteFromOrderIndex: { Long postId, int fromOrderIndex ->
+                deleteCalls << fromOrderIndex
+                List<Integer> removed = table.keySet().findAll { it >= fromOrderIndex }.toList()
+                removed.each { table.remove(it) }
+                removed.size()
+            }
+    ] as PostImageMapper
+
+    @Test
+    void unchangedImagesProduceNoWrites() {
+        PostImageDiff diff = PostImageDiff.of(POST_ID, existing('a', 'b', 'c'), ['a', 'b', 'c'])
+
+        assertTrue(diff.isEmpty())
+        diff.applyTo(postImageMapper)
+        assertTrue(upsertCalls.isEmpty())
+        assertTrue(deleteCalls.isEmpty())
+    }
+
+    @Test
+    void reorderUpsertsOnlyChangedPositions() {
+        PostImageDiff diff = apply(['a', 'b', 'c'], ['c', 'b', 'a'])
+
+        assertEquals([1, 3], diff.upserted*.orderIndex)
+        assertEquals(['c', 'a'], diff.upserted*.imageUrl)
+        assertNull(diff.deleteFromOrderIndex)
+        assertEquals([1: 'c', 2: 'b', 3: 'a'], table)
+        assertEquals(1, upsertCalls.size())
+        assertTrue(deleteCalls.isEmpty())
+    }
+
+    @Test
+    void appendedImagesAreInserted() {
+        PostImageDiff diff = apply(['a', 'b'], ['a', 'b', 'c', 'd'])
+
+        assertEquals([3, 4], diff.upserted*.orderIndex)
+        assertTrue(diff.upserted.every { it.postId == POST_ID })
+        assertNull(diff.deleteFromOrderIndex)
+        assertEquals([1: 'a', 2: 'b', 3: 'c', 4: 'd'], table)
+    }
+
+    @Test
+    void trailingPositionsAreDeletedWhenListShrinks() {
+        PostImageDiff diff = apply(['a', 'b', 'c', 'd'], ['a', 'x'])
+
+        assertEquals([2], diff.upserted*.orderIndex)
+        assertEquals(3, diff.deleteFromOrderIndex)
+        assertEquals([1: 'a', 2: 'x'], table)
+        assertEquals([3], deleteCalls)
+    }
+
+    @Test
+    void emptyRequestDeletesEverything() {
+        PostImageDiff diff = apply(['a', 'b'], [])
+
+        assertTrue(diff.upserted.isEmpty())
+        assertEquals(1, diff.deleteFromOrderIndex)
+        assertTrue(table.isEmpty())
+        assertTrue(upsertCalls.isEmpty())
+    }
+
+    @Test
+    void reorderInsertAndDeleteTogether() {
+        // 기존 자리가 중간에 비어 있어도 (order_index 1, 2, 5) 요청 목록 기준으로 맞춘다.
+        table.putAll([1: 'a', 2: 'b', 5: 'e'])
+        PostImageDiff diff = PostImageDiff.of(POST_ID, rows(), ['b', 'a', 'c'])
+        diff.applyTo(postImageMapper)
+
+        assertEquals([1, 2, 3], diff.upserted*.orderIndex)
+        assertEquals(4, diff.deleteFromOrderIndex)
+        assertEquals([1: 'b', 2: 'a', 3: 'c'], table)
+        assertEquals(1, upsertCalls.size())
+        assertEquals(1, deleteCalls.size())
+    }
+
+    private PostImageDiff apply(List<String> before, List<String> after) {
+        before.eachWithIndex { String url, int i -> table[i + 1] = url }
+        PostImageDiff diff = PostImageDiff.of(POST_ID, rows(), after)
+        diff.applyTo(postImageMapper)
+        diff
+    }
+
+    private List<PostImage> rows() {
+        table.collect { index, url -> PostImage.newImage(null, POST_ID, url, index) }
+    }
+
+    private static List<PostImage> existing(String... urls) {
+        (0..<urls.length).collect { PostImage.newImage(null, POST_ID, urls[it], it + 1) }
+    }
+}
@@ -0,0 +1,121 @@
+package com.yumyumcoach.domain.community.timeline
+
+import com.yumyumcoach.domain.community.entity.Post
+import com.yumyumcoach.domain.community.event.PostEvent
+import com.yumyumcoach.domain.community.mapper.FollowMapper
+import com.yumyumcoach.domain.community.mapper.PostMapper
+import com.yumyumcoach.domain.community.mapper.TimelineMapper
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.support.SimpleTransactionStatus
+import org.springframework.transaction.support.TransactionTemplate
+
+import java.time.LocalDateTime
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+
+/**
+ * HomeTimeline : 버퍼를 읽어 오는 도중 fan-out 이 끼어들면 읽은 버퍼를 저장하지 않는지 (버전 슬롯).
+ */
+class HomeTimelineTest {
+    private static final String AUTHOR = 'author@test.com'
+    private static final String READER = 'reader@test.com'
+
+    /**
+     * timeline_entries 대신 쓰는 메모리 테이블 (사용자 → 게시글 ID)
+     */
+    private final Map<String, TreeSet<Long>> entries = [:].withDefault { new TreeSet<Long>() }
+    private int timelineReads = 0
+
+    /**
+     * 버퍼를 읽는 중에 실행할 일 (DB 를 읽은 직후, 버퍼를 저장하기 전)
+     */
+    private Closure duringLoad = null
+
+    private final FollowMapper followMapper = [
+            findFollowerEmails                    : { String followee -> [READER] },
+            findFolloweeEmails                    : { String follower -> [AUTHOR] },
+            countFollowers                        : { String followee -> 1L },
+            findFolloweeEmailsWithFollowersAtLeast: { long min -> [] }
+    ] as FollowMapper
+
+    private final TimelineMapper timelineMapper = [
+            insertEntries: { List<String> owners, Long postId, LocalDateTime createdAt ->
+                owners.each { entries[it] << postId }
+            },
+            findPostIds  : { String owner, Long beforeId, int limit ->
+                timelineReads++
+                List<Long> read = entries[owner].descendingSet()
+                        .findAll { beforeId == null || it < beforeId }
+                        .take(limit)
+                        .toList()
+                if (duringLoad != null) {
+                    Closure action = duringLoad
+                    duringLoad = null
+                    action()
+                }
+                read
+            }
+    ] as TimelineMapper
+
+    private final PlatformTransactionManager transactionManager = [
+            getTransaction: { TransactionDefinition definition -> new SimpleTransactionStatus() },
+            commit        : { status -> },
+            rollback      : { status -> }
+    ] as PlatformTransactionManager
+
+    private final HomeTimeline timeline = new HomeTimeline(
+            followMapper, timelineMapper, [:] as PostMapper, new TransactionTemplate(transactionManager))
+
+    @AfterEach
+    void tearDown() {
+        timeline.shutdown()
+    }
+
+    @Test
+    void loadedBufferServesLaterReadsAndReceivesFanOut() {
+        entries[READER].addAll([1L, 2L])
+
+        assertEquals([2L, 1L], timeline.findPostIds(READER, null, 10))
+        assertEquals(1, timelineReads)
+
+        publish(3L)
+        assertEquals([3L, 2L, 1L], timeline.findPostIds(READER, null, 10))
+        // 버퍼에 바로 들어갔으므로 DB 를 다시 읽지 않는다.
+        assertEquals(1, timelineReads)
+    }
+
+    @Test
+    void fanOutDuringLoadDiscardsStaleBuffer() {
+        entries[READER].addAll([1L, 2L])
+        // DB 를 읽은 뒤 버퍼를 저장하기 전에 새 글이 fan-out 된다.
+        duringLoad = { publish(3L) }
+
+        // 이번 응답은 읽은 시점의 값
+        assertEquals([2L, 1L], timeline.findPostIds(READER, null, 10))
+
+        // 읽은 버퍼는 저장되지 않았으므로 다시 읽어 새 글이 보인다.
+        assertEquals([3L, 2L, 1L], timeline.findPostIds(READER, null, 10))
+        assertEquals(2, timelineReads)
+
+        // 이번에는 끼어든 글이 없어 저장되고, 다음 조회는 버퍼에서 답한다.
+        assertEquals([3L, 2L, 1L], timeline.findPostIds(READER, null, 10))
+        assertEquals(2, timelineReads)
+    }
+
+    /**
+     * 게시글 작성 커밋 이후 이벤트를 보내고 fan-out 스레드가 처리할 때까지 기다린다.
+     */
+    private void publish(long postId) {
+        Post post = Post.builder()
+                .id(postId)
+                .authorEmail(AUTHOR)
+                .createdAt(LocalDateTime.now())
+                .build()
+        timeline.onPostEvent(PostEvent.created(post))
+        // fan-out 스레드는 하나라서, 뒤에 넣은 빈 작업이 끝나면 앞의 fan-out 도 끝난 것이다.
+        timeline.fanOutExecutor.submit({} as Runnable).get()
+    }
+}
@@ -0,0 +1,110 @@
+package com.yumyumcoach.domain.community.timeline
+
+import org.junit.jupiter.api.Test
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+/**
+ * TimelineBuffer : 링 버퍼가 한 바퀴 돈 뒤에도 최신 capacity 개를 오름차순으로 유지하는지.
+ */
+class TimelineBufferTest {
+
+    @Test
+    void keepsNewestFirstWithinCapacity() {
+        TimelineBuffer buffer = new TimelineBuffer(4)
+        [1L, 2L, 3L].each { buffer.push(it) }
+
+        assertEquals([3L, 2L, 1L], buffer.findBefore(null, 10))
+        assertFalse(buffer.isTruncated())
+    }
+
+    @Test
+    void overflowDropsOldestAndMarksTruncated() {
+        TimelineBuffer buffer = new TimelineBuffer(4)
+        (1L..6L).each { buffer.push(it) }
+
+        assertEquals([6L, 5L, 4L, 3L], buffer.findBefore(null, 10))
+        assertTrue(buffer.isTruncated())
+    }
+
+    @Test
+    void wrapsAroundManyTimes() {
+        TimelineBuffer buffer = new TimelineBuffer(5)
+        (1L..23L).each { buffer.push(it) }
+
+        assertEquals([23L, 22L, 21L, 20L, 19L], buffer.findBefore(null, 10))
+        assertEquals([20L, 19L], buffer.findBefore(21L, 10))
+        assertEquals([22L, 21L], buffer.findBefore(23L, 2))
+    }
+
+    @Test
+    void outOfOrderPushAfterWraparoundKeepsOrder() {
+        TimelineBuffer buffer = new TimelineBuffer(4)
+        [10L, 20L, 30L, 40L, 50L, 60L].each { buffer.push(it) }
+
+        // 커밋 순서가 뒤바뀐 ID : 시작 위치가 옮겨진 뒤에도 제자리에 들어가고 가장 오래된 ID 가 밀려난다.
+        buffer.push(45L)
+        assertEquals([60L, 50L, 45L, 40L], buffer.findBefore(null, 10))
+
+        buffer.push(55L)
+        assertEquals([60L, 55L, 50L, 45L], buffer.findBefore(null, 10))
+    }
+
+    @Test
+    void idOlderThanEverythingInFullBufferIsDropped() {
+        TimelineBuffer buffer = new TimelineBuffer(3)
+        [10L, 20L, 30L].each { buffer.push(it) }
+        assertFalse(buffer.isTruncated())
+
+        buffer.push(5L)
+        assertEquals([30L, 20L, 10L], buffer.findBefore(null, 10))
+        assertTrue(buffer.isTruncated())
+    }
+
+    @Test
+    void duplicatePushIsIgnored() {
+        TimelineBuffer buffer = new TimelineBuffer(3)
+        [1L, 2L, 2L, 3L, 3L].each { buffer.push(it) }
+
+        assertEquals([3L, 2L, 1L], buffer.findBefore(null, 10))
+        assertFalse(buffer.isTruncated())
+    }
+
+    @Test
+    void ofFillsFromNewestFirstList() {
+        TimelineBuffer loaded = TimelineBuffer.of(3, [9L, 7L, 5L], true)
+        assertEquals([9L, 7L, 5L], loaded.findBefore(null, 10))
+        assertTrue(loaded.isTruncated())
+
+        TimelineBuffer overfilled = TimelineBuffer.of(2, [9L, 7L, 5L], false)
+        assertEquals([9L, 7L], overfilled.findBefore(null, 10))
+        assertTrue(overfilled.isTruncated())
+    }
+
+    @Test
+    void matchesReferenceListUnderRandomPushes() {
+        Random random = new Random(14)
+        int capacity = 16
+        TimelineBuffer buffer = new TimelineBuffer(capacity)
+        TreeSet<Long> everything = new TreeSet<>()
+        long next = 0
+
+        2000.times {
+            // 대부분 증가하는 ID, 가끔 조금 늦게 커밋된 ID
+            long postId = random.nextInt(5) == 0 ? next - random.nextInt(20) : ++next
+            if (postId <= 0) {
+                return
+            }
+            long oldestKept = everything.size() >= capacity ? everything.descendingSet().toList()[capacity - 1] : 0
+            buffer.push(postId)
+            if (everything.size() < capacity || postId > oldestKept) {
+                everything.add(postId)
+            }
+        }
+
+        List<Long> expected = everything.descendingSet().take(capacity).toList()
+        assertEquals(expected, buffer.findBefore(null, capacity))
+    }
+}
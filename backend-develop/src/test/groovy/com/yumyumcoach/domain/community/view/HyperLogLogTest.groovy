@@ -0,0 +1,113 @@
+package com.yumyumcoach.domain.community.view
+
+import org.junit.jupiter.api.Test
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+/**
+ * HyperLogLog : 레지스터 값(rank), 병합, 작은 값의 linear counting 전환, 큰 값의 추정 오차.
+ */
+class HyperLogLogTest {
+    // 레지스터 1024 개의 표준 오차 1.04 / sqrt(1024) ≈ 3.3%
+    private static final double STANDARD_ERROR = 1.04 / Math.sqrt(HyperLogLog.REGISTER_COUNT)
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertEquals(0, new HyperLogLog().estimate())
+    }
+
+    @Test
+    void registerHoldsPositionOfFirstOneBitAfterIndexBits() {
+        ['a@test.com', 'b@test.com', 'viewer-42@test.com'].each { email ->
+            HyperLogLog sketch = new HyperLogLog()
+            sketch.add(email)
+
+            long hash = HyperLogLog.hash(email)
+            int index = (int) (hash >>> (64 - HyperLogLog.PRECISION))
+            // 인덱스 뒤의 비트를 문자열로 보고 첫 '1' 의 위치를 센다. (모두 0 이면 최댓값)
+            String bits = Long.toBinaryString(hash).padLeft(64, '0').substring(HyperLogLog.PRECISION)
+            int expectedRank = bits.indexOf('1') >= 0 ? bits.indexOf('1') + 1 : bits.length() + 1
+
+            byte[] registers = sketch.toBytes()
+            assertEquals(expectedRank, registers[index])
+            assertEquals(1, registers.findAll { it != 0 }.size())
+        }
+    }
+
+    @Test
+    void duplicatesAreCountedOnce() {
+        HyperLogLog sketch = new HyperLogLog()
+        1000.times { sketch.add("viewer-${it % 10}@test.com".toString()) }
+
+        assertEquals(10, sketch.estimate())
+    }
+
+    @Test
+    void smallCardinalityUsesLinearCounting() {
+        // 빈 레지스터가 많은 구간 : linear counting 이라 거의 정확하다.
+        [1, 10, 100, 500].each { n ->
+            assertWithin(n, estimateOf(0, n), 0.02)
+        }
+    }
+
+    @Test
+    void estimateStaysContinuousAroundLinearCountingSwitch() {
+        // 2.5 * 1024 = 2560 근처에서 두 추정식이 갈린다.
+        [2000, 2400, 2560, 2700, 3200].each { n ->
+            assertWithin(n, estimateOf(0, n), 3 * STANDARD_ERROR)
+        }
+    }
+
+    @Test
+    void largeCardinalityStaysWithinStandardError() {
+        [10_000, 100_000, 500_000].each { n ->
+            assertWithin(n, estimateOf(0, n), 3 * STANDARD_ERROR)
+        }
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        HyperLogLog left = sketchOf(0, 5000)
+        HyperLogLog right = sketchOf(2500, 7500)
+        left.merge(right)
+
+        HyperLogLog union = sketchOf(0, 7500)
+        assertArrayEquals(union.toBytes(), left.toBytes())
+        assertEquals(union.estimate(), left.estimate())
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        HyperLogLog sketch = sketchOf(0, 3000)
+
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes())
+        assertArrayEquals(sketch.toBytes(), restored.toBytes())
+        assertEquals(sketch.estimate(), restored.estimate())
+    }
+
+    @Test
+    void missingOrMalformedBytesGiveEmptySketch() {
+        assertEquals(0, HyperLogLog.fromBytes(null).estimate())
+        assertEquals(0, HyperLogLog.fromBytes(new byte[16]).estimate())
+        assertEquals(HyperLogLog.REGISTER_COUNT, HyperLogLog.fromBytes(null).toBytes().length)
+    }
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog()
+        for (int i = from; i < to; i++) {
+            sketch.add("viewer-${i}@test.com".toString())
+        }
+        sketch
+    }
+
+    private static long estimateOf(int from, int to) {
+        sketchOf(from, to).estimate()
+    }
+
+    private static void assertWithin(long expected, long actual, double tolerance) {
+        double error = Math.abs(actual - expected) / (double) expected
+        assertTrue(error <= tolerance, "expected ${expected}, estimated ${actual} (error ${error})")
+    }
+}
@@ -0,0 +1,107 @@
+package com.yumyumcoach.domain.community.view
+
+import com.yumyumcoach.domain.community.entity.PostViewStat
+import com.yumyumcoach.domain.community.mapper.PostViewStatMapper
+import org.junit.jupiter.api.Test
+import org.springframework.transaction.support.TransactionCallback
+import org.springframework.transaction.support.TransactionTemplate
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+/**
+ * PostViewTracker : 반영 실패 시 대기열로 돌려놓고 다음 반영에서 한 번만 쓰는지.
+ */
+class PostViewTrackerTest {
+    /**
+     * post_view_stats 대신 쓰는 메모리 테이블
+     */
+    private final Map<Long, PostViewStat> table = [:]
+    private int failingUpserts = 0
+    private int upsertCalls = 0
+
+    private final PostViewStatMapper mapper = [
+            findByPostIds         : { Collection<Long> ids -> ids.findResults { table[it] } },
+            findCountsByPostIds   : { Collection<Long> ids -> ids.findResults { table[it] } },
+            findByPostIdsForUpdate: { Collection<Long> ids -> ids.findResults { table[it] } },
+            upsertAll             : { List<PostViewStat> stats ->
+                upsertCalls++
+                if (failingUpserts > 0) {
+                    failingUpserts--
+                    throw new IllegalStateException('deadlock')
+                }
+                stats.each { table[it.postId] = it }
+            },
+            deleteByPostId        : { Long id -> table.remove(id) }
+    ] as PostViewStatMapper
+
+    /**
+     * 트랜잭션 매니저 없이 콜백만 실행한다.
+     */
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate() {
+        @Override
+        <T> T execute(TransactionCallback<T> action) {
+            action.doInTransaction(null)
+        }
+    }
+
+    private final PostViewTracker tracker = new PostViewTracker(mapper, transactionTemplate)
+
+    @Test
+    void flushWritesMergedCounts() {
+        tracker.record(1L, 'a@test.com')
+        tracker.record(1L, 'a@test.com')
+        tracker.record(1L, 'b@test.com')
+        tracker.record(1L, null)
+        tracker.flush()
+
+        assertEquals(4, table[1L].viewCount)
+        assertEquals(2, table[1L].uniqueViewerCount)
+        assertEquals(new PostViewCount(4, 2), tracker.findCounts([1L])[1L])
+    }
+
+    @Test
+    void failedChunkIsRequeuedAndWrittenOnceOnNextFlush() {
+        tracker.record(1L, 'a@test.com')
+        tracker.record(2L, 'b@test.com')
+        failingUpserts = 1
+        tracker.flush()
+
+        assertEquals(1, upsertCalls)
+        assertTrue(table.isEmpty())
+        // 반영은 실패했지만 대기열로 돌아가 조회에는 보인다.
+        assertEquals(new PostViewCount(1, 1), tracker.findCounts([1L])[1L])
+        assertEquals(new PostViewCount(1, 1), tracker.findCounts([2L])[2L])
+
+        // 실패 뒤에 들어온 조회와 합쳐서 한 번에 반영한다.
+        tracker.record(1L, 'c@test.com')
+        tracker.flush()
+
+        assertEquals(2, upsertCalls)
+        assertEquals(2, table[1L].viewCount)
+        assertEquals(2, table[1L].uniqueViewerCount)
+        assertEquals(1, table[2L].viewCount)
+        assertEquals(new PostViewCount(2, 2), tracker.findCounts([1L])[1L])
+
+        // 더 반영할 것이 없다.
+        tracker.flush()
+        assertEquals(2, upsertCalls)
+        assertEquals(2, table[1L].viewCount)
+    }
+
+    @Test
+    void requeuedViewersMergeWithDatabaseSketch() {
+        tracker.record(1L, 'a@test.com')
+        tracker.flush()
+
+        tracker.record(1L, 'a@test.com')
+        tracker.record(1L, 'b@test.com')
+        failingUpserts = 1
+        tracker.flush()
+        assertEquals(new PostViewCount(3, 2), tracker.findCounts([1L])[1L])
+
+        tracker.flush()
+        assertEquals(3, table[1L].viewCount)
+        assertEquals(2, table[1L].uniqueViewerCount)
+    }
+}